@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.fossnova.nio.DeflaterWritableByteChannel;
+import org.fossnova.nio.DelegatingReadableByteChannel;
+import org.fossnova.nio.InflaterReadableByteChannel;
+import org.fossnova.nio.MemoryByteChannel;
+import org.fossnova.nio.NullWritableByteChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares deflater and inflater channels with deflater and inflater streams
+ * adapted to channels via {@link Channels}.
+ *
+ * @author FOSS Nova contributors
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class DeflateBenchmark {
+
+    private static final String[] WORDS = { "channel", "buffer", "delegate", "read", "write", "pool", "frame", "\n" };
+
+    private static final int CHUNK_SIZE = 8192;
+
+    @Param( { "65536", "1048576" } )
+    int size;
+
+    private ByteBuffer input;
+
+    private byte[] inputArray;
+
+    private MemoryByteChannel compressed;
+
+    private ReadableByteChannel compressedView;
+
+    private ByteBuffer output;
+
+    private byte[] outputArray;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Random random = new Random( 0 );
+        inputArray = new byte[ size ];
+        int i = 0;
+        while ( i < size ) {
+            final byte[] word = WORDS[ random.nextInt( WORDS.length ) ].getBytes( "US-ASCII" );
+            final int length = Math.min( word.length, size - i );
+            System.arraycopy( word, 0, inputArray, i, length );
+            i += length;
+        }
+        input = ByteBuffer.allocateDirect( size );
+        input.put( inputArray );
+        compressed = new MemoryByteChannel();
+        final DeflaterWritableByteChannel deflater = new DeflaterWritableByteChannel( compressed );
+        input.clear();
+        deflater.write( input );
+        deflater.finish();
+        compressedView = new DelegatingReadableByteChannel( compressed ) {
+            @Override
+            public void close() {
+                // keep compressed data available for next invocations
+            }
+        };
+        output = ByteBuffer.allocateDirect( CHUNK_SIZE );
+        outputArray = new byte[ CHUNK_SIZE ];
+    }
+
+    @TearDown
+    public void tearDown() {
+        compressed.close();
+    }
+
+    @Benchmark
+    public void deflateStream() throws IOException {
+        try ( OutputStream out = new DeflaterOutputStream( Channels.newOutputStream( NullWritableByteChannel.getInstance() ) ) ) {
+            out.write( inputArray );
+        }
+    }
+
+    @Benchmark
+    public void deflateChannel() throws IOException {
+        try ( DeflaterWritableByteChannel channel = new DeflaterWritableByteChannel( NullWritableByteChannel.getInstance() ) ) {
+            input.clear();
+            channel.write( input );
+        }
+    }
+
+    @Benchmark
+    public long inflateStream() throws IOException {
+        compressed.position( 0 );
+        long total = 0;
+        try ( InputStream in = new InflaterInputStream( Channels.newInputStream( compressedView ) ) ) {
+            int count;
+            while ( ( count = in.read( outputArray ) ) >= 0 ) {
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long inflateChannel() throws IOException {
+        compressed.position( 0 );
+        long total = 0;
+        try ( InflaterReadableByteChannel channel = new InflaterReadableByteChannel( compressedView ) ) {
+            output.clear();
+            int count;
+            while ( ( count = channel.read( output ) ) >= 0 ) {
+                total += count;
+                output.clear();
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+import org.fossnova.nio.DelegatingReadableByteChannel;
+import org.fossnova.nio.DelegatingWritableByteChannel;
+import org.fossnova.nio.NullReadableByteChannel;
+import org.fossnova.nio.NullWritableByteChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures per call cost of delegating channel chains of various depth.
+ * Depth zero calls the null channels directly and serves as the baseline.
+ *
+ * @author FOSS Nova contributors
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class DelegationBenchmark {
+
+    @Param( { "0", "1", "2", "4", "8" } )
+    int depth;
+
+    @Param( { "false", "true" } )
+    boolean direct;
+
+    @Param( "4096" )
+    int bufferSize;
+
+    private ReadableByteChannel source;
+
+    private WritableByteChannel sink;
+
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        ReadableByteChannel readable = NullReadableByteChannel.getInstance();
+        WritableByteChannel writable = NullWritableByteChannel.getInstance();
+        for ( int i = 0; i < depth; i++ ) {
+            readable = new DelegatingReadableByteChannel( readable );
+            writable = new DelegatingWritableByteChannel( writable );
+        }
+        source = readable;
+        sink = writable;
+        buffer = direct ? ByteBuffer.allocateDirect( bufferSize ) : ByteBuffer.allocate( bufferSize );
+    }
+
+    @Benchmark
+    public int read() throws IOException {
+        buffer.clear();
+        return source.read( buffer );
+    }
+
+    @Benchmark
+    public int write() throws IOException {
+        buffer.clear();
+        return sink.write( buffer );
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.fossnova.nio.NullReadableByteChannel;
+import org.fossnova.nio.PushbackReadableByteChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures push back channel unread/read and peek cycles with heap and direct buffers.
+ *
+ * @author FOSS Nova contributors
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class PushbackBenchmark {
+
+    @Param( { "1", "16", "256", "4096" } )
+    int size;
+
+    @Param( { "false", "true" } )
+    boolean direct;
+
+    private PushbackReadableByteChannel channel;
+
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        channel = new PushbackReadableByteChannel( NullReadableByteChannel.getInstance(), size, size, direct );
+        buffer = direct ? ByteBuffer.allocateDirect( size ) : ByteBuffer.allocate( size );
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        channel.close();
+    }
+
+    @Benchmark
+    public int unreadRead() throws IOException {
+        buffer.clear();
+        channel.unread( buffer );
+        buffer.clear();
+        return channel.read( buffer );
+    }
+
+    @Benchmark
+    public int unreadPeekRead() throws IOException {
+        buffer.clear();
+        channel.unread( buffer );
+        final int peeked = channel.peek( size ).remaining();
+        buffer.clear();
+        return peeked + channel.read( buffer );
+    }
+
+    @Benchmark
+    public int unreadByteRead() throws IOException {
+        channel.unread( size );
+        buffer.clear();
+        return channel.read( buffer );
+    }
+}
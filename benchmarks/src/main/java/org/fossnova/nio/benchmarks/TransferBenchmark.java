@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import org.fossnova.nio.ByteChannels;
+import org.fossnova.nio.DelegatingReadableByteChannel;
+import org.fossnova.nio.DelegatingWritableByteChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link ByteChannels#transfer} zero copy path with its buffer copy fallback
+ * when copying large local files. The copy path is forced by wrapping the source
+ * in a delegating channel subclass that is never unwrapped.
+ *
+ * @author FOSS Nova contributors
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class TransferBenchmark {
+
+    private static final int CHUNK_SIZE = 1024 * 1024;
+
+    @Param( { "67108864", "268435456" } )
+    long fileSize;
+
+    private Path sourceFile;
+
+    private Path targetFile;
+
+    private FileChannel source;
+
+    private FileChannel target;
+
+    @Setup
+    public void setUp() throws IOException {
+        sourceFile = Files.createTempFile( "fossnova-nio-transfer", ".src" );
+        targetFile = Files.createTempFile( "fossnova-nio-transfer", ".dst" );
+        try ( FileChannel channel = FileChannel.open( sourceFile, StandardOpenOption.WRITE ) ) {
+            final ByteBuffer chunk = ByteBuffer.allocateDirect( CHUNK_SIZE );
+            for ( long written = 0; written < fileSize; written += CHUNK_SIZE ) {
+                chunk.clear();
+                while ( chunk.hasRemaining() ) {
+                    channel.write( chunk );
+                }
+            }
+        }
+        source = FileChannel.open( sourceFile, StandardOpenOption.READ );
+        target = FileChannel.open( targetFile, StandardOpenOption.WRITE );
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        source.close();
+        target.close();
+        Files.delete( sourceFile );
+        Files.delete( targetFile );
+    }
+
+    @Benchmark
+    public long zeroCopy() throws IOException {
+        source.position( 0 );
+        target.position( 0 );
+        return ByteChannels.transfer( new DelegatingReadableByteChannel( source ), new DelegatingWritableByteChannel( target ), fileSize );
+    }
+
+    @Benchmark
+    public long bufferCopy() throws IOException {
+        source.position( 0 );
+        target.position( 0 );
+        return ByteChannels.transfer( new OpaqueReadableByteChannel( source ), new OpaqueWritableByteChannel( target ), fileSize );
+    }
+
+    private static final class OpaqueReadableByteChannel extends DelegatingReadableByteChannel {
+        private OpaqueReadableByteChannel( final ReadableByteChannel delegate ) {
+            super( delegate );
+        }
+    }
+
+    private static final class OpaqueWritableByteChannel extends DelegatingWritableByteChannel {
+        private OpaqueWritableByteChannel( final WritableByteChannel delegate ) {
+            super( delegate );
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <P>
+ * A <code>BlockingWritableByteChannel</code> provides blocking semantics over a non-blocking selectable channel.
+ * Writes wait until all bytes are written.
+ * Waiting threads are parked by a {@link SelectorReadinessService} instead of spinning,
+ * no monitors are held while waiting.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class BlockingWritableByteChannel extends DelegatingWritableByteChannel {
+
+    private final SelectableChannel selectable;
+
+    private final SelectorReadinessService service;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>BlockingWritableByteChannel</code> using shared readiness service.
+     *
+     * @param delegate non-blocking channel to operate upon
+     * @param <C> channel type
+     */
+    public <C extends SelectableChannel & WritableByteChannel> BlockingWritableByteChannel( final C delegate ) {
+        this( delegate, SelectorReadinessService.getInstance() );
+    }
+
+    /**
+     * Creates a <code>BlockingWritableByteChannel</code>.
+     *
+     * @param delegate non-blocking channel to operate upon
+     * @param service readiness service
+     * @param <C> channel type
+     */
+    public <C extends SelectableChannel & WritableByteChannel> BlockingWritableByteChannel( final C delegate, final SelectorReadinessService service ) {
+        // ensure preconditions
+        super( delegate );
+        if ( service == null ) {
+            throw new IllegalArgumentException( "service cannot be null" );
+        }
+        // initialize
+        selectable = delegate;
+        this.service = service;
+    }
+
+    /**
+     * Delegates the call to the wrapped channel, waiting until all bytes are written.
+     */
+    @Override
+    public int write( final ByteBuffer src ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( src == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        int count = 0;
+        while ( src.hasRemaining() ) {
+            final int written = super.write( src );
+            if ( written == 0 ) {
+                service.await( selectable, SelectionKey.OP_WRITE );
+            }
+            count += written;
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            super.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+}
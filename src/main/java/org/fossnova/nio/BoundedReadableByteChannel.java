@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * <P>
+ * A <code>BoundedReadableByteChannel</code> reads at most given count of bytes from the wrapped
+ * channel and then reports EOF. Reads are capped by temporarily lowering the limit of passed buffer,
+ * bytes are never copied.
+ * </P>
+ * <P>
+ * Optionally a prefix of the wrapped channel can be skipped before the first read.
+ * If the wrapped channel is <code>SeekableByteChannel</code> its position is advanced,
+ * otherwise skipped bytes are read and discarded through a scratch buffer
+ * taken from the shared {@link CachingByteBufferPool}.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class BoundedReadableByteChannel extends DelegatingReadableByteChannel {
+
+    private static final int SCRATCH_BUFFER_SIZE = 8192;
+
+    private long skip;
+
+    private long remaining;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>BoundedReadableByteChannel</code> that reads at most <B>limit</B> bytes.
+     *
+     * @param delegate readable channel to operate upon
+     * @param limit maximum count of bytes to read
+     */
+    public BoundedReadableByteChannel( final ReadableByteChannel delegate, final long limit ) {
+        this( delegate, 0, limit );
+    }
+
+    /**
+     * Creates a <code>BoundedReadableByteChannel</code> that skips <B>offset</B> bytes
+     * and then reads at most <B>limit</B> bytes.
+     *
+     * @param delegate readable channel to operate upon
+     * @param offset count of bytes to skip
+     * @param limit maximum count of bytes to read
+     */
+    public BoundedReadableByteChannel( final ReadableByteChannel delegate, final long offset, final long limit ) {
+        // ensure preconditions
+        super( delegate );
+        if ( offset < 0 ) {
+            throw new IllegalArgumentException( "offset must be positive" );
+        }
+        if ( limit < 0 ) {
+            throw new IllegalArgumentException( "limit must be positive" );
+        }
+        // initialize
+        skip = offset;
+        remaining = limit;
+    }
+
+    /**
+     * Returns count of bytes that can be still read.
+     */
+    public long remaining() {
+        return remaining;
+    }
+
+    /**
+     * Delegates the call to the wrapped channel with buffer limit capped to remaining bytes.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( dst == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        if ( !dst.hasRemaining() ) {
+            return 0;
+        }
+        if ( skip > 0 && !skip() ) {
+            return skip < 0 ? -1 : 0;
+        }
+        if ( remaining == 0 ) {
+            return -1;
+        }
+        final int limit = dst.limit();
+        if ( dst.remaining() > remaining ) {
+            dst.limit( dst.position() + ( int ) remaining );
+        }
+        final int count;
+        try {
+            count = super.read( dst );
+        } finally {
+            dst.limit( limit );
+        }
+        if ( count > 0 ) {
+            remaining -= count;
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            super.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+
+    /**
+     * Skips pending prefix. Returns false if it was not skipped completely,
+     * in which case negative <code>skip</code> indicates EOF.
+     */
+    private boolean skip() throws IOException {
+        final Channel channel = ByteChannels.unwrap( getDelegate() );
+        if ( channel instanceof SeekableByteChannel ) {
+            final SeekableByteChannel seekable = ( SeekableByteChannel ) channel;
+            seekable.position( seekable.position() + skip );
+            skip = 0;
+            return true;
+        }
+        final ByteBufferPool pool = CachingByteBufferPool.getDirectInstance();
+        final ByteBuffer scratch = pool.allocate( SCRATCH_BUFFER_SIZE );
+        try {
+            while ( skip > 0 ) {
+                scratch.clear();
+                if ( scratch.remaining() > skip ) {
+                    scratch.limit( ( int ) skip );
+                }
+                final int count = super.read( scratch );
+                if ( count < 0 ) {
+                    skip = -1;
+                    remaining = 0;
+                    return false;
+                }
+                if ( count == 0 ) {
+                    return false;
+                }
+                skip -= count;
+            }
+            return true;
+        } finally {
+            pool.free( scratch );
+        }
+    }
+}
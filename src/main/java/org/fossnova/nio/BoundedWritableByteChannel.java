@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <P>
+ * A <code>BoundedWritableByteChannel</code> writes at most given count of bytes to the wrapped channel.
+ * Writes are capped by temporarily lowering the limit of passed buffer, bytes are never copied.
+ * Any attempt to write more bytes once the limit was reached will cause <B>java.io.IOException</B>.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class BoundedWritableByteChannel extends DelegatingWritableByteChannel {
+
+    private long remaining;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>BoundedWritableByteChannel</code> that writes at most <B>limit</B> bytes.
+     *
+     * @param delegate writable channel to operate upon
+     * @param limit maximum count of bytes to write
+     */
+    public BoundedWritableByteChannel( final WritableByteChannel delegate, final long limit ) {
+        // ensure preconditions
+        super( delegate );
+        if ( limit < 0 ) {
+            throw new IllegalArgumentException( "limit must be positive" );
+        }
+        // initialize
+        remaining = limit;
+    }
+
+    /**
+     * Returns count of bytes that can be still written.
+     */
+    public long remaining() {
+        return remaining;
+    }
+
+    /**
+     * Delegates the call to the wrapped channel with buffer limit capped to remaining bytes.
+     */
+    @Override
+    public int write( final ByteBuffer src ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( src == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        if ( !src.hasRemaining() ) {
+            return 0;
+        }
+        if ( remaining == 0 ) {
+            throw new IOException( "Channel limit reached" );
+        }
+        final int limit = src.limit();
+        if ( src.remaining() > remaining ) {
+            src.limit( src.position() + ( int ) remaining );
+        }
+        final int count;
+        try {
+            count = super.write( src );
+        } finally {
+            src.limit( limit );
+        }
+        remaining -= count;
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            super.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.Future;
+
+/**
+ * A <code>BrokenAsynchronousByteChannel</code> always fails with <code>IOException</code>.
+ * Operations fail immediately in the calling thread.
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class BrokenAsynchronousByteChannel implements AsynchronousByteChannel {
+
+    private static final BrokenAsynchronousByteChannel INSTANCE = new BrokenAsynchronousByteChannel();
+
+    private final IOException exception;
+
+    private final Future<Integer> failure;
+
+    private BrokenAsynchronousByteChannel() {
+        exception = new IOException( "Broken asynchronous channel" );
+        failure = CompletedFuture.failed( exception );
+    }
+
+    /**
+     * Returns <code>BrokenAsynchronousByteChannel</code> singleton instance.
+     */
+    public static BrokenAsynchronousByteChannel getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Always returns true.
+     */
+    @Override
+    public boolean isOpen() {
+        return true;
+    }
+
+    /**
+     * Throws IOException.
+     */
+    @Override
+    public void close() throws IOException {
+        throw exception;
+    }
+
+    /**
+     * Fails with IOException.
+     */
+    @Override
+    public <A> void read( final ByteBuffer dst, final A attachment, final CompletionHandler<Integer, ? super A> handler ) {
+        handler.failed( exception, attachment );
+    }
+
+    /**
+     * Returns future failed with IOException.
+     */
+    @Override
+    public Future<Integer> read( final ByteBuffer dst ) {
+        return failure;
+    }
+
+    /**
+     * Fails with IOException.
+     */
+    @Override
+    public <A> void write( final ByteBuffer src, final A attachment, final CompletionHandler<Integer, ? super A> handler ) {
+        handler.failed( exception, attachment );
+    }
+
+    /**
+     * Returns future failed with IOException.
+     */
+    @Override
+    public Future<Integer> write( final ByteBuffer src ) {
+        return failure;
+    }
+}
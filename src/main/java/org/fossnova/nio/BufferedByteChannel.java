@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+
+/**
+ * <P>
+ * A <code>BufferedByteChannel</code> buffers both reads and writes of the wrapped channel.
+ * Reads behave as reads of {@link BufferedReadableByteChannel} and writes
+ * behave as writes of {@link BufferedWritableByteChannel}.
+ * It is intended for stream oriented channels such as sockets,
+ * the read and write buffers are independent of each other.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class BufferedByteChannel extends DelegatingByteChannel implements Flushable {
+
+    private final BufferedReadableByteChannel readDelegate;
+
+    private final BufferedWritableByteChannel writeDelegate;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>BufferedByteChannel</code> that wraps passed
+     * channel with default buffer sizes.
+     *
+     * @param delegate channel to operate upon
+     */
+    public BufferedByteChannel( final ByteChannel delegate ) {
+        this( delegate, BufferedReadableByteChannel.DEFAULT_BUFFER_SIZE, BufferedReadableByteChannel.DEFAULT_BUFFER_SIZE );
+    }
+
+    /**
+     * Creates a <code>BufferedByteChannel</code> that wraps passed channel.
+     *
+     * @param delegate channel to operate upon
+     * @param readSize read buffer size
+     * @param writeSize write buffer size
+     */
+    public BufferedByteChannel( final ByteChannel delegate, final int readSize, final int writeSize ) {
+        this( delegate, readSize, writeSize, CachingByteBufferPool.getDirectInstance() );
+    }
+
+    /**
+     * Creates a <code>BufferedByteChannel</code> that wraps passed channel.
+     * Buffers are taken from passed pool and returned to it when this channel is closed.
+     *
+     * @param delegate channel to operate upon
+     * @param readSize minimum read buffer size
+     * @param writeSize minimum write buffer size
+     * @param pool buffers pool
+     */
+    public BufferedByteChannel( final ByteChannel delegate, final int readSize, final int writeSize, final ByteBufferPool pool ) {
+        // ensure preconditions
+        super( delegate );
+        // initialize
+        readDelegate = new BufferedReadableByteChannel( delegate, readSize, pool );
+        writeDelegate = new BufferedWritableByteChannel( delegate, writeSize, pool );
+    }
+
+    /**
+     * Returns buffered bytes first. If there are no buffered bytes
+     * the buffer is refilled from the wrapped channel.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        return readDelegate.read( dst );
+    }
+
+    /**
+     * Appends bytes to the write buffer. The buffer is flushed first if there is
+     * not enough space in it.
+     */
+    @Override
+    public int write( final ByteBuffer src ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        return writeDelegate.write( src );
+    }
+
+    /**
+     * Writes all buffered bytes to the wrapped channel.
+     *
+     * @throws IOException if some I/O error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        writeDelegate.flush();
+    }
+
+    /**
+     * Flushes buffered bytes and closes the wrapped channel.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            try {
+                writeDelegate.close();
+            } finally {
+                readDelegate.close();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * <P>
+ * A <code>BufferedReadableByteChannel</code> reads ahead from the wrapped channel
+ * into a buffer so small reads do not cause calls of the wrapped channel.
+ * Reads requesting at least buffer size bytes bypass the buffer when it is empty.
+ * </P>
+ * <P>
+ * The buffer is taken from a {@link ByteBufferPool}, direct buffers are used by default.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class BufferedReadableByteChannel extends DelegatingReadableByteChannel {
+
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final ByteBufferPool pool;
+
+    private final ByteBuffer buffer;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>BufferedReadableByteChannel</code> that wraps passed
+     * readable channel with default buffer size.
+     *
+     * @param delegate readable channel to operate upon
+     */
+    public BufferedReadableByteChannel( final ReadableByteChannel delegate ) {
+        this( delegate, DEFAULT_BUFFER_SIZE );
+    }
+
+    /**
+     * Creates a <code>BufferedReadableByteChannel</code> that wraps passed
+     * readable channel.
+     *
+     * @param delegate readable channel to operate upon
+     * @param size buffer size
+     */
+    public BufferedReadableByteChannel( final ReadableByteChannel delegate, final int size ) {
+        this( delegate, size, CachingByteBufferPool.getDirectInstance() );
+    }
+
+    /**
+     * Creates a <code>BufferedReadableByteChannel</code> that wraps passed
+     * readable channel. The buffer is taken from passed pool
+     * and returned to it when this channel is closed.
+     *
+     * @param delegate readable channel to operate upon
+     * @param size minimum buffer size
+     * @param pool buffers pool
+     */
+    public BufferedReadableByteChannel( final ReadableByteChannel delegate, final int size, final ByteBufferPool pool ) {
+        // ensure preconditions
+        super( delegate );
+        if ( size <= 0 ) {
+            throw new IllegalArgumentException( "Buffer size must be positive" );
+        }
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        // initialize
+        this.pool = pool;
+        buffer = pool.allocate( size );
+        buffer.limit( 0 );
+    }
+
+    /**
+     * Returns buffered bytes first. If there are no buffered bytes
+     * the buffer is refilled from the wrapped channel.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( dst == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        if ( !dst.hasRemaining() ) {
+            return 0;
+        }
+        if ( !buffer.hasRemaining() ) {
+            if ( dst.remaining() >= buffer.capacity() ) {
+                // large reads bypass the buffer
+                return getDelegate().read( dst );
+            }
+            buffer.clear();
+            final int count = getDelegate().read( buffer );
+            buffer.flip();
+            if ( count <= 0 ) {
+                return count;
+            }
+        }
+        return transfer( buffer, dst );
+    }
+
+    /**
+     * Releases the buffer and closes the wrapped channel.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            pool.free( buffer );
+            super.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+
+    static int transfer( final ByteBuffer src, final ByteBuffer dst ) {
+        final int count = Math.min( src.remaining(), dst.remaining() );
+        final int limit = src.limit();
+        src.limit( src.position() + count );
+        dst.put( src );
+        src.limit( limit );
+        return count;
+    }
+}
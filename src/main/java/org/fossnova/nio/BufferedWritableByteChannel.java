@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <P>
+ * A <code>BufferedWritableByteChannel</code> collects small writes in a buffer
+ * and passes them to the wrapped channel at once when the buffer is full,
+ * when {@link #flush()} method is called or when this channel is closed.
+ * Writes of at least buffer size bytes bypass the buffer.
+ * </P>
+ * <P>
+ * The buffer is taken from a {@link ByteBufferPool}, direct buffers are used by default.
+ * </P>
+ * <P>
+ * If the wrapped channel is in non-blocking mode, some bytes may remain
+ * buffered after {@link #flush()} method returns.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class BufferedWritableByteChannel extends DelegatingWritableByteChannel implements Flushable {
+
+    private final ByteBufferPool pool;
+
+    private final ByteBuffer buffer;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>BufferedWritableByteChannel</code> that wraps passed
+     * writable channel with default buffer size.
+     *
+     * @param delegate writable channel to operate upon
+     */
+    public BufferedWritableByteChannel( final WritableByteChannel delegate ) {
+        this( delegate, BufferedReadableByteChannel.DEFAULT_BUFFER_SIZE );
+    }
+
+    /**
+     * Creates a <code>BufferedWritableByteChannel</code> that wraps passed
+     * writable channel.
+     *
+     * @param delegate writable channel to operate upon
+     * @param size buffer size
+     */
+    public BufferedWritableByteChannel( final WritableByteChannel delegate, final int size ) {
+        this( delegate, size, CachingByteBufferPool.getDirectInstance() );
+    }
+
+    /**
+     * Creates a <code>BufferedWritableByteChannel</code> that wraps passed
+     * writable channel. The buffer is taken from passed pool
+     * and returned to it when this channel is closed.
+     *
+     * @param delegate writable channel to operate upon
+     * @param size minimum buffer size
+     * @param pool buffers pool
+     */
+    public BufferedWritableByteChannel( final WritableByteChannel delegate, final int size, final ByteBufferPool pool ) {
+        // ensure preconditions
+        super( delegate );
+        if ( size <= 0 ) {
+            throw new IllegalArgumentException( "Buffer size must be positive" );
+        }
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        // initialize
+        this.pool = pool;
+        buffer = pool.allocate( size );
+    }
+
+    /**
+     * Appends bytes to the buffer. The buffer is flushed first if there is
+     * not enough space in it.
+     */
+    @Override
+    public int write( final ByteBuffer src ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( src == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        if ( src.remaining() > buffer.remaining() ) {
+            flushBuffer();
+        }
+        if ( buffer.position() == 0 && src.remaining() >= buffer.capacity() ) {
+            // large writes bypass the buffer
+            return getDelegate().write( src );
+        }
+        return BufferedReadableByteChannel.transfer( src, buffer );
+    }
+
+    /**
+     * Writes all buffered bytes to the wrapped channel.
+     *
+     * @throws IOException if some I/O error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        flushBuffer();
+    }
+
+    /**
+     * Flushes buffered bytes and closes the wrapped channel.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            try {
+                flushBuffer();
+            } finally {
+                pool.free( buffer );
+                super.close();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if ( buffer.position() == 0 ) {
+            return;
+        }
+        buffer.flip();
+        try {
+            while ( buffer.hasRemaining() ) {
+                if ( getDelegate().write( buffer ) == 0 ) {
+                    break;
+                }
+            }
+        } finally {
+            buffer.compact();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * A <code>ByteBufferPool</code> hands out <code>ByteBuffer</code>s and takes them back
+ * for reuse. Buffer owning channels of this library take their buffers from a pool
+ * and return them when they are closed.
+ * </p>
+ * <p>
+ * Implementations must be thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public interface ByteBufferPool {
+
+    /**
+     * Returns cleared buffer with capacity of at least <B>size</B> bytes.
+     *
+     * @param size minimum buffer capacity
+     * @return buffer
+     */
+    ByteBuffer allocate( int size );
+
+    /**
+     * Returns buffer to this pool. The buffer must not be used after this call.
+     *
+     * @param buffer buffer previously allocated by this pool
+     */
+    void free( ByteBuffer buffer );
+
+    /**
+     * Returns true if this pool hands out direct buffers.
+     */
+    boolean isDirect();
+
+    /**
+     * Returns snapshot of this pool statistics.
+     */
+    ByteBufferPoolStatistics getStatistics();
+}
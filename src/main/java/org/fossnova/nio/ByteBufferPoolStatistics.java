@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+/**
+ * <p>
+ * Snapshot of {@link ByteBufferPool} statistics.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class ByteBufferPoolStatistics {
+
+    private final long hits;
+
+    private final long misses;
+
+    private final long outstanding;
+
+    ByteBufferPoolStatistics( final long hits, final long misses, final long outstanding ) {
+        this.hits = hits;
+        this.misses = misses;
+        this.outstanding = outstanding;
+    }
+
+    /**
+     * Returns count of allocations served with a cached buffer.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns count of allocations that had to create a new buffer.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns count of allocated buffers not yet returned to the pool.
+     */
+    public long getOutstanding() {
+        return outstanding;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <p>
+ * Static utility methods operating on byte channels.
+ * </p>
+ * <p>
+ * Channels wrapped by plain delegating channels are looked up under the delegation chain.
+ * If a <code>FileChannel</code> is found on either side of a transfer, the transfer is executed via
+ * <code>FileChannel.transferTo()</code> or <code>FileChannel.transferFrom()</code>
+ * so the operating system can move the data without copying it to user space.
+ * Otherwise the data are copied through a direct buffer taken from the shared
+ * {@link CachingByteBufferPool}.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class ByteChannels {
+
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+    private static final Set<Class<?>> TRANSPARENT_CHANNELS = Collections.unmodifiableSet( new HashSet<Class<?>>( Arrays.<Class<?>>asList(
+            DelegatingChannel.class,
+            DelegatingByteChannel.class,
+            DelegatingReadableByteChannel.class,
+            DelegatingWritableByteChannel.class,
+            DelegatingScatteringByteChannel.class,
+            DelegatingGatheringByteChannel.class,
+            DelegatingScatteringGatheringByteChannel.class ) ) );
+
+    private ByteChannels() {
+    }
+
+    /**
+     * Transfers up to <B>count</B> bytes from the source channel to the target channel.
+     * Less bytes are transferred if the source channel reaches EOF or if it is in non-blocking mode
+     * and has no bytes available. Bytes read from the source channel are never dropped:
+     * if the target channel is a <code>SelectableChannel</code> in non-blocking mode, the calling thread
+     * waits via {@link SelectorReadinessService} until the target accepts them, if any other target
+     * channel accepts no bytes, <B>java.io.IOException</B> is thrown. Zero-copy transfers
+     * from a <code>FileChannel</code> wait for the target the same way.
+     *
+     * @param src channel to read from
+     * @param dst channel to write to
+     * @param count maximum count of bytes to transfer
+     * @return count of bytes transferred
+     * @throws IOException if some I/O error occurs
+     */
+    public static long transfer( final ReadableByteChannel src, final WritableByteChannel dst, final long count ) throws IOException {
+        // ensure preconditions
+        if ( src == null ) {
+            throw new IllegalArgumentException( "Source channel cannot be null" );
+        }
+        if ( dst == null ) {
+            throw new IllegalArgumentException( "Target channel cannot be null" );
+        }
+        if ( count < 0 ) {
+            throw new IllegalArgumentException( "count must be positive" );
+        }
+        // the implementation
+        if ( count == 0 ) {
+            return 0;
+        }
+        final Channel source = unwrap( src );
+        final Channel target = unwrap( dst );
+        if ( source instanceof FileChannel ) {
+            return transferTo( ( FileChannel ) source, ( WritableByteChannel ) target, count );
+        }
+        if ( target instanceof FileChannel ) {
+            return transferFrom( ( ReadableByteChannel ) source, ( FileChannel ) target, count );
+        }
+        return copy( src, dst, target, count );
+    }
+
+    /**
+     * Returns the innermost channel reachable through plain delegating channels.
+     * Delegating channel subclasses are never unwrapped because they may alter the data.
+     *
+     * @param channel to unwrap
+     * @return the innermost channel
+     */
+    static Channel unwrap( final Channel channel ) {
+        Channel current = channel;
+        while ( current != null && TRANSPARENT_CHANNELS.contains( current.getClass() ) ) {
+            current = ( ( DelegatingChannel ) current ).getDelegate();
+        }
+        return current;
+    }
+
+    private static long transferTo( final FileChannel source, final WritableByteChannel target, final long count ) throws IOException {
+        final long position = source.position();
+        long total = 0;
+        while ( total < count ) {
+            final long transferred = source.transferTo( position + total, count - total, target );
+            if ( transferred <= 0 ) {
+                if ( position + total >= source.size() ) {
+                    break;
+                }
+                // the target accepts no bytes for now, same as in the copy path
+                awaitWritable( target );
+                continue;
+            }
+            total += transferred;
+        }
+        source.position( position + total );
+        return total;
+    }
+
+    private static long transferFrom( final ReadableByteChannel source, final FileChannel target, final long count ) throws IOException {
+        final long position = target.position();
+        long total = 0;
+        while ( total < count ) {
+            final long transferred = target.transferFrom( source, position + total, count - total );
+            if ( transferred <= 0 ) {
+                break;
+            }
+            total += transferred;
+        }
+        target.position( position + total );
+        return total;
+    }
+
+    /**
+     * Waits until the channel which accepted no bytes can be written to again.
+     * Only selectable channels in non-blocking mode can be waited for, other channels are reported as stalled.
+     *
+     * @param channel unwrapped channel to wait for
+     * @throws IOException if the channel cannot be waited for or if current thread was interrupted
+     */
+    static void awaitWritable( final Channel channel ) throws IOException {
+        if ( channel instanceof SelectableChannel && !( ( SelectableChannel ) channel ).isBlocking() ) {
+            SelectorReadinessService.getInstance().await( ( SelectableChannel ) channel, SelectionKey.OP_WRITE );
+        } else {
+            throw new IOException( "Target channel accepts no bytes" );
+        }
+    }
+
+    private static long copy( final ReadableByteChannel src, final WritableByteChannel dst, final Channel target, final long count ) throws IOException {
+        final ByteBufferPool pool = CachingByteBufferPool.getDirectInstance();
+        final ByteBuffer buffer = pool.allocate( TRANSFER_BUFFER_SIZE );
+        long total = 0;
+        try {
+            while ( total < count ) {
+                buffer.clear();
+                if ( count - total < buffer.capacity() ) {
+                    buffer.limit( ( int ) ( count - total ) );
+                }
+                final int read = src.read( buffer );
+                if ( read <= 0 ) {
+                    break;
+                }
+                buffer.flip();
+                // bytes already consumed from the source must not be lost
+                while ( buffer.hasRemaining() ) {
+                    if ( dst.write( buffer ) == 0 ) {
+                        awaitWritable( target );
+                    }
+                }
+                total += read;
+            }
+        } finally {
+            pool.free( buffer );
+        }
+        return total;
+    }
+}
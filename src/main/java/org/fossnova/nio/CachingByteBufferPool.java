@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * A <code>CachingByteBufferPool</code> keeps returned buffers in power of two size classes
+ * from 512 bytes to 1 MiB. Each platform thread has its own small cache per size class and
+ * buffers that do not fit there go to a bounded cache shared by all threads.
+ * Virtual threads use the shared cache only, since their thread caches would be dropped
+ * with the short lived thread together with the buffers held in them.
+ * Buffers smaller than the smallest size class are allocated with their exact size
+ * and buffers larger than the biggest size class are never cached.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class CachingByteBufferPool implements ByteBufferPool {
+
+    private static final int MIN_SIZE_SHIFT = 9;
+
+    private static final int MAX_SIZE_SHIFT = 20;
+
+    private static final int THREAD_CACHE_BYTES = 256 * 1024;
+
+    private static final int MAX_THREAD_CACHE_SIZE = 8;
+
+    private static final int SHARED_CACHE_BYTES = 4 * 1024 * 1024;
+
+    private static final int MAX_SHARED_CACHE_SIZE = 64;
+
+    private static final MethodHandle IS_VIRTUAL = isVirtualHandle();
+
+    private static final CachingByteBufferPool HEAP_INSTANCE = new CachingByteBufferPool( false );
+
+    private static final CachingByteBufferPool DIRECT_INSTANCE = new CachingByteBufferPool( true );
+
+    private final boolean direct;
+
+    private final SizeClass[] sizeClasses;
+
+    private final ThreadLocal<ThreadCache> threadCache;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder outstanding = new LongAdder();
+
+    /**
+     * Creates new pool.
+     *
+     * @param direct whether this pool should hand out direct buffers
+     */
+    public CachingByteBufferPool( final boolean direct ) {
+        this.direct = direct;
+        sizeClasses = new SizeClass[ MAX_SIZE_SHIFT - MIN_SIZE_SHIFT + 1 ];
+        for ( int i = 0; i < sizeClasses.length; i++ ) {
+            sizeClasses[ i ] = new SizeClass( 1 << ( MIN_SIZE_SHIFT + i ) );
+        }
+        threadCache = ThreadLocal.withInitial( () -> new ThreadCache( sizeClasses ) );
+    }
+
+    /**
+     * Returns shared <code>CachingByteBufferPool</code> instance handing out heap buffers.
+     */
+    public static CachingByteBufferPool getHeapInstance() {
+        return HEAP_INSTANCE;
+    }
+
+    /**
+     * Returns shared <code>CachingByteBufferPool</code> instance handing out direct buffers.
+     */
+    public static CachingByteBufferPool getDirectInstance() {
+        return DIRECT_INSTANCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer allocate( final int size ) {
+        // ensure preconditions
+        if ( size < 0 ) {
+            throw new IllegalArgumentException( "size must be positive" );
+        }
+        // the implementation
+        outstanding.increment();
+        final int index = indexOf( size );
+        if ( size < 1 << MIN_SIZE_SHIFT || index >= sizeClasses.length ) {
+            misses.increment();
+            return newBuffer( size );
+        }
+        final ThreadCache cache = threadCache();
+        ByteBuffer buffer = cache != null ? cache.poll( index ) : null;
+        if ( buffer == null ) {
+            buffer = sizeClasses[ index ].poll();
+        }
+        if ( buffer == null ) {
+            misses.increment();
+            return newBuffer( sizeClasses[ index ].size );
+        }
+        hits.increment();
+        return buffer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void free( final ByteBuffer buffer ) {
+        // ensure preconditions
+        if ( buffer == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        if ( buffer.isDirect() != direct || buffer.isReadOnly() ) {
+            throw new IllegalArgumentException( "buffer was not allocated by this pool" );
+        }
+        // the implementation
+        outstanding.decrement();
+        final int capacity = buffer.capacity();
+        final int index = indexOf( capacity );
+        if ( index >= sizeClasses.length || sizeClasses[ index ].size != capacity ) {
+            return;
+        }
+        buffer.clear();
+        final ThreadCache cache = threadCache();
+        if ( cache == null || !cache.offer( index, buffer ) ) {
+            sizeClasses[ index ].offer( buffer );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBufferPoolStatistics getStatistics() {
+        return new ByteBufferPoolStatistics( hits.sum(), misses.sum(), outstanding.sum() );
+    }
+
+    private ThreadCache threadCache() {
+        if ( IS_VIRTUAL != null ) {
+            try {
+                if ( ( boolean ) IS_VIRTUAL.invokeExact( Thread.currentThread() ) ) {
+                    return null;
+                }
+            } catch ( final Throwable t ) {
+                throw new IllegalStateException( t );
+            }
+        }
+        return threadCache.get();
+    }
+
+    private static MethodHandle isVirtualHandle() {
+        try {
+            return MethodHandles.publicLookup().findVirtual( Thread.class, "isVirtual", MethodType.methodType( boolean.class ) );
+        } catch ( final NoSuchMethodException | IllegalAccessException e ) {
+            // virtual threads are not available on this platform
+            return null;
+        }
+    }
+
+    private ByteBuffer newBuffer( final int size ) {
+        return direct ? ByteBuffer.allocateDirect( size ) : ByteBuffer.allocate( size );
+    }
+
+    private static int indexOf( final int size ) {
+        if ( size <= 1 << MIN_SIZE_SHIFT ) {
+            return 0;
+        }
+        return Integer.SIZE - Integer.numberOfLeadingZeros( size - 1 ) - MIN_SIZE_SHIFT;
+    }
+
+    private static final class SizeClass {
+
+        private final int size;
+
+        private final int threadCacheSize;
+
+        private final int sharedCacheSize;
+
+        private final Queue<ByteBuffer> sharedCache = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger sharedCount = new AtomicInteger();
+
+        private SizeClass( final int size ) {
+            this.size = size;
+            threadCacheSize = Math.max( 1, Math.min( MAX_THREAD_CACHE_SIZE, THREAD_CACHE_BYTES / size ) );
+            sharedCacheSize = Math.max( 2, Math.min( MAX_SHARED_CACHE_SIZE, SHARED_CACHE_BYTES / size ) );
+        }
+
+        private ByteBuffer poll() {
+            final ByteBuffer buffer = sharedCache.poll();
+            if ( buffer != null ) {
+                sharedCount.decrementAndGet();
+            }
+            return buffer;
+        }
+
+        private void offer( final ByteBuffer buffer ) {
+            if ( sharedCount.incrementAndGet() > sharedCacheSize ) {
+                sharedCount.decrementAndGet();
+                return;
+            }
+            sharedCache.offer( buffer );
+        }
+    }
+
+    private static final class ThreadCache {
+
+        private final ByteBuffer[][] buffers;
+
+        private final int[] counts;
+
+        private ThreadCache( final SizeClass[] sizeClasses ) {
+            buffers = new ByteBuffer[ sizeClasses.length ][];
+            for ( int i = 0; i < sizeClasses.length; i++ ) {
+                buffers[ i ] = new ByteBuffer[ sizeClasses[ i ].threadCacheSize ];
+            }
+            counts = new int[ sizeClasses.length ];
+        }
+
+        private ByteBuffer poll( final int index ) {
+            if ( counts[ index ] == 0 ) {
+                return null;
+            }
+            final int last = --counts[ index ];
+            final ByteBuffer buffer = buffers[ index ][ last ];
+            buffers[ index ][ last ] = null;
+            return buffer;
+        }
+
+        private boolean offer( final int index, final ByteBuffer buffer ) {
+            if ( counts[ index ] == buffers[ index ].length ) {
+                return false;
+            }
+            buffers[ index ][ counts[ index ]++ ] = buffer;
+            return true;
+        }
+    }
+}
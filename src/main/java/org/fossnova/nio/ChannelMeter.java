@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * A <code>ChannelMeter</code> accumulates statistics of metered channels.
+ * A single meter can be shared by many channels to aggregate their statistics.
+ * Counters are striped so channels used by different threads do not contend
+ * on the same memory location.
+ * </p>
+ * <p>
+ * Time spent in wrapped channels is measured only if the meter was created as timed.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class ChannelMeter {
+
+    private final boolean timed;
+
+    private final LongAdder reads = new LongAdder();
+
+    private final LongAdder bytesRead = new LongAdder();
+
+    private final LongAdder zeroLengthReads = new LongAdder();
+
+    private final LongAdder eofs = new LongAdder();
+
+    private final LongAdder writes = new LongAdder();
+
+    private final LongAdder bytesWritten = new LongAdder();
+
+    private final LongAdder time = new LongAdder();
+
+    /**
+     * Creates meter that does not measure time.
+     */
+    public ChannelMeter() {
+        this( false );
+    }
+
+    /**
+     * Creates meter.
+     *
+     * @param timed whether time spent in wrapped channels should be measured
+     */
+    public ChannelMeter( final boolean timed ) {
+        this.timed = timed;
+    }
+
+    /**
+     * Returns true if time spent in wrapped channels is measured.
+     */
+    public boolean isTimed() {
+        return timed;
+    }
+
+    /**
+     * Returns snapshot of accumulated statistics.
+     */
+    public ChannelMeterStatistics getStatistics() {
+        return new ChannelMeterStatistics( reads.sum(), bytesRead.sum(), zeroLengthReads.sum(), eofs.sum(), writes.sum(), bytesWritten.sum(), time.sum() );
+    }
+
+    /**
+     * Resets all statistics to zero. Concurrent updates may be lost.
+     */
+    public void reset() {
+        reads.reset();
+        bytesRead.reset();
+        zeroLengthReads.reset();
+        eofs.reset();
+        writes.reset();
+        bytesWritten.reset();
+        time.reset();
+    }
+
+    void recordRead( final int count, final long nanos ) {
+        reads.increment();
+        if ( count > 0 ) {
+            bytesRead.add( count );
+        } else if ( count == 0 ) {
+            zeroLengthReads.increment();
+        } else {
+            eofs.increment();
+        }
+        if ( timed ) {
+            time.add( nanos );
+        }
+    }
+
+    void recordWrite( final int count, final long nanos ) {
+        writes.increment();
+        bytesWritten.add( count );
+        if ( timed ) {
+            time.add( nanos );
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+/**
+ * <p>
+ * Snapshot of {@link ChannelMeter} statistics.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class ChannelMeterStatistics {
+
+    private final long reads;
+
+    private final long bytesRead;
+
+    private final long zeroLengthReads;
+
+    private final long eofs;
+
+    private final long writes;
+
+    private final long bytesWritten;
+
+    private final long timeNanos;
+
+    ChannelMeterStatistics( final long reads, final long bytesRead, final long zeroLengthReads, final long eofs, final long writes,
+            final long bytesWritten, final long timeNanos ) {
+        this.reads = reads;
+        this.bytesRead = bytesRead;
+        this.zeroLengthReads = zeroLengthReads;
+        this.eofs = eofs;
+        this.writes = writes;
+        this.bytesWritten = bytesWritten;
+        this.timeNanos = timeNanos;
+    }
+
+    /**
+     * Returns count of read calls.
+     */
+    public long getReads() {
+        return reads;
+    }
+
+    /**
+     * Returns count of bytes read.
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Returns count of read calls that returned zero.
+     */
+    public long getZeroLengthReads() {
+        return zeroLengthReads;
+    }
+
+    /**
+     * Returns count of read calls that returned EOF.
+     */
+    public long getEofs() {
+        return eofs;
+    }
+
+    /**
+     * Returns count of write calls.
+     */
+    public long getWrites() {
+        return writes;
+    }
+
+    /**
+     * Returns count of bytes written.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns nanoseconds spent in read and write calls of wrapped channels, zero if the meter is not timed.
+     */
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * <P>
+ * A <code>ChecksumWritableByteChannel</code> updates a <code>java.util.zip.Checksum</code> with all bytes
+ * written to the wrapped channel. The checksum is updated directly from the buffer passed
+ * to {@link #write(ByteBuffer)} method, bytes are never copied. CRC32C is used by default.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class ChecksumWritableByteChannel extends DelegatingWritableByteChannel {
+
+    private final Checksum checksum;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>ChecksumWritableByteChannel</code> computing CRC32C checksum.
+     *
+     * @param delegate writable channel to operate upon
+     */
+    public ChecksumWritableByteChannel( final WritableByteChannel delegate ) {
+        this( delegate, new CRC32C() );
+    }
+
+    /**
+     * Creates a <code>ChecksumWritableByteChannel</code>.
+     *
+     * @param delegate writable channel to operate upon
+     * @param checksum checksum to be updated
+     */
+    public ChecksumWritableByteChannel( final WritableByteChannel delegate, final Checksum checksum ) {
+        // ensure preconditions
+        super( delegate );
+        if ( checksum == null ) {
+            throw new IllegalArgumentException( "checksum cannot be null" );
+        }
+        // initialize
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns updated checksum.
+     */
+    public Checksum getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Returns current checksum value.
+     */
+    public long getValue() {
+        return checksum.getValue();
+    }
+
+    /**
+     * Delegates the call to the wrapped channel and updates the checksum with transferred bytes.
+     */
+    @Override
+    public int write( final ByteBuffer src ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( src == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        final int start = src.position();
+        final int count = super.write( src );
+        if ( count > 0 ) {
+            final int limit = src.limit();
+            src.limit( start + count );
+            src.position( start );
+            checksum.update( src );
+            src.limit( limit );
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            super.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+}
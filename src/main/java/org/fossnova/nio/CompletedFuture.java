@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * An immutable already completed <code>Future</code>. Instances holding constant results can be shared.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+final class CompletedFuture<V> implements Future<V> {
+
+    static final CompletedFuture<Integer> EOF = new CompletedFuture<>( -1, null );
+
+    static final CompletedFuture<Integer> ZERO = new CompletedFuture<>( 0, null );
+
+    private final V result;
+
+    private final Throwable failure;
+
+    private CompletedFuture( final V result, final Throwable failure ) {
+        this.result = result;
+        this.failure = failure;
+    }
+
+    static CompletedFuture<Integer> completed( final int result ) {
+        if ( result == -1 ) {
+            return EOF;
+        }
+        return result == 0 ? ZERO : new CompletedFuture<>( result, null );
+    }
+
+    static <V> CompletedFuture<V> failed( final Throwable failure ) {
+        return new CompletedFuture<>( null, failure );
+    }
+
+    @Override
+    public boolean cancel( final boolean mayInterruptIfRunning ) {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    public boolean isDone() {
+        return true;
+    }
+
+    @Override
+    public V get() throws ExecutionException {
+        if ( failure != null ) {
+            throw new ExecutionException( failure );
+        }
+        return result;
+    }
+
+    @Override
+    public V get( final long timeout, final TimeUnit unit ) throws ExecutionException {
+        return get();
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * <P>
+ * A <code>ConcatReadableByteChannel</code> reads a sequence of channels one after another.
+ * It is NIO counterpart of <code>java.io.SequenceInputStream</code>.
+ * Each channel is read until it reaches EOF, then it is closed and reading continues with the next one.
+ * EOF is reported once the last channel reached EOF.
+ * </P>
+ * <P>
+ * Channels can be opened lazily via {@link ChannelSupplier}, so only one of them is open at any time.
+ * A single buffer read never waits for more than one channel. It returns as soon as some bytes were transferred.
+ * Scattering reads keep filling the buffers across channel boundaries, they return once
+ * the buffers are full, a channel transferred no bytes or the last channel reached EOF.
+ * Scattering reads are delegated to the current channel if it is <code>ScatteringByteChannel</code>.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class ConcatReadableByteChannel implements ScatteringByteChannel {
+
+    /**
+     * Supplies channels to be concatenated.
+     */
+    public interface ChannelSupplier {
+        /**
+         * Opens next channel.
+         *
+         * @return next channel or null if there are no more channels
+         * @throws IOException if some I/O error occurs
+         */
+        ReadableByteChannel next() throws IOException;
+    }
+
+    private final ChannelSupplier supplier;
+
+    private final Iterator<? extends ReadableByteChannel> unread;
+
+    private ReadableByteChannel current;
+
+    private boolean exhausted;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>ConcatReadableByteChannel</code> of passed channels.
+     * Channels not read yet are closed when this channel is closed.
+     *
+     * @param channels channels to be read in order
+     */
+    public ConcatReadableByteChannel( final ReadableByteChannel... channels ) {
+        // ensure preconditions
+        if ( channels == null ) {
+            throw new IllegalArgumentException( "channels cannot be null" );
+        }
+        for ( final ReadableByteChannel channel : channels ) {
+            if ( channel == null ) {
+                throw new IllegalArgumentException( "channel cannot be null" );
+            }
+        }
+        // initialize
+        unread = Arrays.asList( channels ).iterator();
+        supplier = () -> unread.hasNext() ? unread.next() : null;
+    }
+
+    /**
+     * Creates a <code>ConcatReadableByteChannel</code> of channels returned by passed iterator.
+     * Channels are taken from the iterator only when needed.
+     *
+     * @param channels channels to be read in order
+     */
+    public ConcatReadableByteChannel( final Iterator<? extends ReadableByteChannel> channels ) {
+        // ensure preconditions
+        if ( channels == null ) {
+            throw new IllegalArgumentException( "channels cannot be null" );
+        }
+        // initialize
+        unread = null;
+        supplier = () -> channels.hasNext() ? channels.next() : null;
+    }
+
+    /**
+     * Creates a <code>ConcatReadableByteChannel</code> of channels opened by passed supplier.
+     * Channels are opened only when needed.
+     *
+     * @param supplier channels supplier
+     */
+    public ConcatReadableByteChannel( final ChannelSupplier supplier ) {
+        // ensure preconditions
+        if ( supplier == null ) {
+            throw new IllegalArgumentException( "supplier cannot be null" );
+        }
+        // initialize
+        unread = null;
+        this.supplier = supplier;
+    }
+
+    /**
+     * Reads bytes from current channel, advancing to next channels on EOF.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( dst == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        if ( !dst.hasRemaining() ) {
+            return 0;
+        }
+        while ( advance() ) {
+            final int count = current.read( dst );
+            if ( count >= 0 ) {
+                return count;
+            }
+            closeCurrent();
+        }
+        return -1;
+    }
+
+    /**
+     * Reads bytes into buffers until these are full, advancing to next channels on EOF.
+     */
+    @Override
+    public long read( final ByteBuffer[] dsts, final int offset, final int length ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( dsts == null ) {
+            throw new IllegalArgumentException( "buffers cannot be null" );
+        }
+        if ( offset < 0 ) {
+            throw new IllegalArgumentException( "offset must be positive" );
+        }
+        if ( length < 0 ) {
+            throw new IllegalArgumentException( "length must be positive" );
+        }
+        if ( length > ( dsts.length - offset ) ) {
+            throw new IllegalArgumentException( "length must be less or equal to count of buffers available in the array" );
+        }
+        // the implementation
+        if ( !hasRemaining( dsts, offset, length ) ) {
+            return 0;
+        }
+        long total = 0;
+        while ( advance() ) {
+            final long count = scatter( dsts, offset, length );
+            if ( count < 0 ) {
+                closeCurrent();
+                continue;
+            }
+            total += count;
+            if ( count == 0 || !hasRemaining( dsts, offset, length ) ) {
+                return total;
+            }
+        }
+        return total == 0 ? -1 : total;
+    }
+
+    /**
+     * Reads bytes into buffers until these are full, advancing to next channels on EOF.
+     */
+    @Override
+    public long read( final ByteBuffer[] dsts ) throws IOException {
+        // ensure preconditions
+        if ( dsts == null ) {
+            throw new IllegalArgumentException( "buffers cannot be null" );
+        }
+        // the implementation
+        return read( dsts, 0, dsts.length );
+    }
+
+    /**
+     * Closes current channel and all passed channels not read yet.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( closed ) {
+            return;
+        }
+        closed = true;
+        exhausted = true;
+        IOException failure = null;
+        try {
+            closeCurrent();
+        } catch ( final IOException e ) {
+            failure = e;
+        }
+        while ( unread != null && unread.hasNext() ) {
+            try {
+                unread.next().close();
+            } catch ( final IOException e ) {
+                if ( failure == null ) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed( e );
+                }
+            }
+        }
+        if ( failure != null ) {
+            throw failure;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+
+    private boolean advance() throws IOException {
+        if ( current == null && !exhausted ) {
+            current = supplier.next();
+            exhausted = current == null;
+        }
+        return current != null;
+    }
+
+    private void closeCurrent() throws IOException {
+        if ( current != null ) {
+            final ReadableByteChannel channel = current;
+            current = null;
+            channel.close();
+        }
+    }
+
+    private long scatter( final ByteBuffer[] dsts, final int offset, final int length ) throws IOException {
+        if ( current instanceof ScatteringByteChannel ) {
+            return ( ( ScatteringByteChannel ) current ).read( dsts, offset, length );
+        }
+        long total = 0;
+        for ( int i = offset; i < offset + length; i++ ) {
+            if ( !dsts[ i ].hasRemaining() ) {
+                continue;
+            }
+            final int count = current.read( dsts[ i ] );
+            if ( count < 0 ) {
+                return total == 0 ? -1 : total;
+            }
+            total += count;
+            if ( dsts[ i ].hasRemaining() ) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private static boolean hasRemaining( final ByteBuffer[] dsts, final int offset, final int length ) {
+        for ( int i = offset; i < offset + length; i++ ) {
+            if ( dsts[ i ].hasRemaining() ) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
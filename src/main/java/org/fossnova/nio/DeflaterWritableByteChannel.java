@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.Deflater;
+
+/**
+ * <P>
+ * A <code>DeflaterWritableByteChannel</code> compresses written bytes using <code>java.util.zip.Deflater</code>
+ * and writes compressed bytes to the wrapped channel. The deflater operates directly on passed buffers,
+ * compressed bytes are collected in an output buffer taken from a {@link ByteBufferPool}.
+ * The output is in ZLIB format, or raw DEFLATE format if <B>nowrap</B> is requested. GZIP framing is not provided.
+ * </P>
+ * <P>
+ * The compressed stream is finished when this channel is closed or when {@link #finish()} is called.
+ * The wrapped channel is expected to be in blocking mode.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class DeflaterWritableByteChannel extends DelegatingWritableByteChannel implements Flushable {
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate( 0 );
+
+    private final Deflater deflater;
+
+    private final ByteBufferPool pool;
+
+    private final ByteBuffer buffer;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>DeflaterWritableByteChannel</code> with default compression level.
+     *
+     * @param delegate writable channel to operate upon
+     */
+    public DeflaterWritableByteChannel( final WritableByteChannel delegate ) {
+        this( delegate, Deflater.DEFAULT_COMPRESSION );
+    }
+
+    /**
+     * Creates a <code>DeflaterWritableByteChannel</code> producing ZLIB format.
+     *
+     * @param delegate writable channel to operate upon
+     * @param level compression level
+     */
+    public DeflaterWritableByteChannel( final WritableByteChannel delegate, final int level ) {
+        this( delegate, level, false, DEFAULT_BUFFER_SIZE, CachingByteBufferPool.getDirectInstance() );
+    }
+
+    /**
+     * Creates a <code>DeflaterWritableByteChannel</code>. The output buffer is taken from passed pool
+     * and returned to it when this channel is closed.
+     *
+     * @param delegate writable channel to operate upon
+     * @param level compression level
+     * @param nowrap whether to produce raw DEFLATE format instead of ZLIB format
+     * @param bufferSize minimum output buffer size
+     * @param pool buffers pool
+     */
+    public DeflaterWritableByteChannel( final WritableByteChannel delegate, final int level, final boolean nowrap,
+            final int bufferSize, final ByteBufferPool pool ) {
+        // ensure preconditions
+        super( delegate );
+        if ( ( level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION ) && level != Deflater.DEFAULT_COMPRESSION ) {
+            throw new IllegalArgumentException( "Invalid compression level" );
+        }
+        if ( bufferSize <= 0 ) {
+            throw new IllegalArgumentException( "Buffer size must be positive" );
+        }
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        // initialize
+        this.pool = pool;
+        buffer = pool.allocate( bufferSize );
+        deflater = new Deflater( level, nowrap );
+    }
+
+    /**
+     * Compresses all remaining bytes of the buffer.
+     */
+    @Override
+    public int write( final ByteBuffer src ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( src == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        if ( deflater.finished() ) {
+            throw new IOException( "Compressed stream already finished" );
+        }
+        // the implementation
+        final int count = src.remaining();
+        if ( count == 0 ) {
+            return 0;
+        }
+        deflater.setInput( src );
+        try {
+            while ( !deflater.needsInput() ) {
+                deflate( Deflater.NO_FLUSH );
+            }
+        } finally {
+            // the deflater must not see the caller's buffer once this method returns
+            deflater.setInput( EMPTY );
+        }
+        return count;
+    }
+
+    /**
+     * Writes all pending compressed bytes to the wrapped channel and flushes it if it is flushable.
+     * Flushing too often degrades compression.
+     */
+    @Override
+    public void flush() throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        if ( !deflater.finished() ) {
+            deflater.setInput( EMPTY );
+            boolean full;
+            do {
+                full = deflate( Deflater.SYNC_FLUSH );
+            } while ( full );
+            writeBuffer();
+        }
+        if ( getDelegate() instanceof Flushable ) {
+            ( ( Flushable ) getDelegate() ).flush();
+        }
+    }
+
+    /**
+     * Finishes the compressed stream without closing the wrapped channel.
+     *
+     * @throws IOException if some I/O error occurs
+     */
+    public void finish() throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        if ( deflater.finished() ) {
+            return;
+        }
+        deflater.setInput( EMPTY );
+        deflater.finish();
+        while ( !deflater.finished() ) {
+            deflate( Deflater.NO_FLUSH );
+        }
+        writeBuffer();
+    }
+
+    /**
+     * Finishes the compressed stream, releases resources and closes the wrapped channel.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( closed ) {
+            return;
+        }
+        try {
+            finish();
+        } finally {
+            closed = true;
+            deflater.end();
+            pool.free( buffer );
+            super.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+
+    private boolean deflate( final int flush ) throws IOException {
+        deflater.deflate( buffer, flush );
+        if ( buffer.hasRemaining() ) {
+            return false;
+        }
+        writeBuffer();
+        return true;
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        try {
+            while ( buffer.hasRemaining() ) {
+                getDelegate().write( buffer );
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * A <code>DelegatingAsynchronousByteChannel</code> overrides all methods of
+ * <code>AsynchronousByteChannel</code> and delegates their execution to the wrapped
+ * <code>AsynchronousByteChannel</code>. The wrapped <code>AsynchronousByteChannel</code>
+ * is always obtained via {@link #getDelegate()} method.
+ * Completion handlers are passed to the wrapped channel as they are, nothing is allocated per operation.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public class DelegatingAsynchronousByteChannel extends DelegatingAsynchronousChannel implements AsynchronousByteChannel {
+
+    /**
+     * Creates a <code>DelegatingAsynchronousByteChannel</code> that wraps passed asynchronous byte channel.
+     *
+     * @param delegate the asynchronous byte channel to be wrapped
+     * @throws <code>IllegalArgumentException</code> if parameter is null
+     */
+    public DelegatingAsynchronousByteChannel( final AsynchronousByteChannel delegate ) {
+        super( delegate );
+    }
+
+    /**
+     * Returns wrapped channel.
+     */
+    @Override
+    protected AsynchronousByteChannel getDelegate() {
+        return ( AsynchronousByteChannel ) super.getDelegate();
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public <A> void read( final ByteBuffer dst, final A attachment, final CompletionHandler<Integer, ? super A> handler ) {
+        getDelegate().read( dst, attachment, handler );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public Future<Integer> read( final ByteBuffer dst ) {
+        return getDelegate().read( dst );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public <A> void write( final ByteBuffer src, final A attachment, final CompletionHandler<Integer, ? super A> handler ) {
+        getDelegate().write( src, attachment, handler );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public Future<Integer> write( final ByteBuffer src ) {
+        return getDelegate().write( src );
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileLock;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * A <code>DelegatingAsynchronousFileChannel</code> overrides all methods of
+ * <code>AsynchronousFileChannel</code> and delegates their execution to the wrapped
+ * <code>AsynchronousFileChannel</code>. The wrapped <code>AsynchronousFileChannel</code>
+ * is always obtained via {@link #getDelegate()} method.
+ * Completion handlers are passed to the wrapped channel as they are, nothing is allocated per operation.
+ * File locks are acquired on the wrapped channel.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public class DelegatingAsynchronousFileChannel extends AsynchronousFileChannel {
+
+    private final AsynchronousFileChannel delegate;
+
+    /**
+     * Creates a <code>DelegatingAsynchronousFileChannel</code> that wraps passed asynchronous file channel.
+     *
+     * @param delegate the asynchronous file channel to be wrapped
+     * @throws <code>IllegalArgumentException</code> if parameter is null
+     */
+    public DelegatingAsynchronousFileChannel( final AsynchronousFileChannel delegate ) {
+        if ( delegate == null ) {
+            throw new IllegalArgumentException( "Channel cannot be null" );
+        }
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns wrapped channel.
+     */
+    protected AsynchronousFileChannel getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public long size() throws IOException {
+        return getDelegate().size();
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public AsynchronousFileChannel truncate( final long size ) throws IOException {
+        getDelegate().truncate( size );
+        return this;
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public void force( final boolean metaData ) throws IOException {
+        getDelegate().force( metaData );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public <A> void lock( final long position, final long size, final boolean shared, final A attachment,
+            final CompletionHandler<FileLock, ? super A> handler ) {
+        getDelegate().lock( position, size, shared, attachment, handler );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public Future<FileLock> lock( final long position, final long size, final boolean shared ) {
+        return getDelegate().lock( position, size, shared );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public FileLock tryLock( final long position, final long size, final boolean shared ) throws IOException {
+        return getDelegate().tryLock( position, size, shared );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public <A> void read( final ByteBuffer dst, final long position, final A attachment,
+            final CompletionHandler<Integer, ? super A> handler ) {
+        getDelegate().read( dst, position, attachment, handler );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public Future<Integer> read( final ByteBuffer dst, final long position ) {
+        return getDelegate().read( dst, position );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public <A> void write( final ByteBuffer src, final long position, final A attachment,
+            final CompletionHandler<Integer, ? super A> handler ) {
+        getDelegate().write( src, position, attachment, handler );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public Future<Integer> write( final ByteBuffer src, final long position ) {
+        return getDelegate().write( src, position );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public boolean isOpen() {
+        return getDelegate().isOpen();
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public void close() throws IOException {
+        getDelegate().close();
+    }
+}
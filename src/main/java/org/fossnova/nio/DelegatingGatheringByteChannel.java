@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+/**
+ * <p>
+ * A <code>DelegatingGatheringByteChannel</code> overrides all methods of
+ * <code>GatheringByteChannel</code> and delegates their execution to the wrapped
+ * <code>GatheringByteChannel</code>. The wrapped <code>GatheringByteChannel</code>
+ * is always obtained via {@link #getDelegate()} method.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public class DelegatingGatheringByteChannel extends DelegatingWritableByteChannel implements GatheringByteChannel {
+
+    /**
+     * Creates a <code>DelegatingGatheringByteChannel</code> that wraps passed gathering byte channel.
+     *
+     * @param delegate the gathering byte channel to be wrapped
+     * @throws <code>IllegalArgumentException</code> if parameter is null
+     */
+    public DelegatingGatheringByteChannel( final GatheringByteChannel delegate ) {
+        super( delegate );
+    }
+
+    /**
+     * Returns wrapped channel.
+     */
+    @Override
+    protected GatheringByteChannel getDelegate() {
+        return ( GatheringByteChannel ) super.getDelegate();
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public long write( final ByteBuffer[] srcs, final int offset, final int length ) throws IOException {
+        return getDelegate().write( srcs, offset, length );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public long write( final ByteBuffer[] srcs ) throws IOException {
+        return getDelegate().write( srcs );
+    }
+}
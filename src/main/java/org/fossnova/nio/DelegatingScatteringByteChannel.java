@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ScatteringByteChannel;
+
+/**
+ * <p>
+ * A <code>DelegatingScatteringByteChannel</code> overrides all methods of
+ * <code>ScatteringByteChannel</code> and delegates their execution to the wrapped
+ * <code>ScatteringByteChannel</code>. The wrapped <code>ScatteringByteChannel</code>
+ * is always obtained via {@link #getDelegate()} method.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public class DelegatingScatteringByteChannel extends DelegatingReadableByteChannel implements ScatteringByteChannel {
+
+    /**
+     * Creates a <code>DelegatingScatteringByteChannel</code> that wraps passed scattering byte channel.
+     *
+     * @param delegate the scattering byte channel to be wrapped
+     * @throws <code>IllegalArgumentException</code> if parameter is null
+     */
+    public DelegatingScatteringByteChannel( final ScatteringByteChannel delegate ) {
+        super( delegate );
+    }
+
+    /**
+     * Returns wrapped channel.
+     */
+    @Override
+    protected ScatteringByteChannel getDelegate() {
+        return ( ScatteringByteChannel ) super.getDelegate();
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public long read( final ByteBuffer[] dsts, final int offset, final int length ) throws IOException {
+        return getDelegate().read( dsts, offset, length );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public long read( final ByteBuffer[] dsts ) throws IOException {
+        return getDelegate().read( dsts );
+    }
+}
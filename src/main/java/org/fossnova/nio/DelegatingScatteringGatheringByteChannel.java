@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+
+/**
+ * <p>
+ * A <code>DelegatingScatteringGatheringByteChannel</code> overrides all methods of
+ * <code>ByteChannel</code>, <code>ScatteringByteChannel</code> and <code>GatheringByteChannel</code>
+ * and delegates their execution to the wrapped channel. The wrapped channel
+ * is always obtained via {@link #getDelegate()} method.
+ * </p>
+ * <p>
+ * Vectored operations are passed to the wrapped channel as they are,
+ * so channels such as <code>SocketChannel</code> or <code>FileChannel</code>
+ * can still serve them with a single system call.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public class DelegatingScatteringGatheringByteChannel extends DelegatingByteChannel implements ScatteringByteChannel, GatheringByteChannel {
+
+    /**
+     * Creates a <code>DelegatingScatteringGatheringByteChannel</code> that wraps passed channel.
+     *
+     * @param delegate the channel to be wrapped
+     * @param <C> the type of channel to be wrapped
+     * @throws <code>IllegalArgumentException</code> if parameter is null
+     */
+    public <C extends ByteChannel & ScatteringByteChannel & GatheringByteChannel> DelegatingScatteringGatheringByteChannel( final C delegate ) {
+        super( delegate );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public long read( final ByteBuffer[] dsts, final int offset, final int length ) throws IOException {
+        return ( ( ScatteringByteChannel ) getDelegate() ).read( dsts, offset, length );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public long read( final ByteBuffer[] dsts ) throws IOException {
+        return ( ( ScatteringByteChannel ) getDelegate() ).read( dsts );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public long write( final ByteBuffer[] srcs, final int offset, final int length ) throws IOException {
+        return ( ( GatheringByteChannel ) getDelegate() ).write( srcs, offset, length );
+    }
+
+    /**
+     * Delegates the call to the wrapped channel.
+     */
+    @Override
+    public long write( final ByteBuffer[] srcs ) throws IOException {
+        return ( ( GatheringByteChannel ) getDelegate() ).write( srcs );
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * <P>
+ * A <code>DelimiterScanner</code> splits bytes read from the wrapped channel into records
+ * separated by a single or multi byte delimiter, e.g. <code>\n</code> or <code>\r\n</code>.
+ * Records are returned by {@link #readRecord()} method as slices of an internal buffer, without copying.
+ * Bytes following the last returned record stay in the internal buffer and can still be read
+ * via {@link #read(ByteBuffer)} method.
+ * </P>
+ * <P>
+ * The delimiter is searched for eight bytes at a time (SWAR), bytes already scanned are never scanned again.
+ * Records longer than configured maximum record size cause <B>java.io.IOException</B>.
+ * The internal buffer is taken from a {@link ByteBufferPool} and returned to it when this channel is closed.
+ * It starts small and grows up to maximum record size only when a record does not fit.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class DelimiterScanner extends DelegatingReadableByteChannel {
+
+    static final int DEFAULT_MAX_RECORD_SIZE = 64 * 1024;
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private static final long ONES = 0x0101010101010101L;
+
+    private static final long HIGHS = 0x8080808080808080L;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final int BITS_TO_BYTES_SHIFT = 3;
+
+    private final byte[] delimiter;
+
+    private final long pattern;
+
+    private final int maxRecordSize;
+
+    private final ByteBufferPool pool;
+
+    private ByteBuffer buffer;
+
+    private ByteBuffer words;
+
+    private int scanPosition;
+
+    private boolean endOfStream;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>DelimiterScanner</code> with default maximum record size.
+     * The default is chosen so the record buffer including the delimiter fits into 64 KiB.
+     *
+     * @param delegate readable channel to operate upon
+     * @param delimiter records delimiter
+     */
+    public DelimiterScanner( final ReadableByteChannel delegate, final byte[] delimiter ) {
+        this( delegate, delimiter, delimiter == null ? 0 : Math.max( 1, DEFAULT_MAX_RECORD_SIZE - delimiter.length ) );
+    }
+
+    /**
+     * Creates a <code>DelimiterScanner</code>.
+     *
+     * @param delegate readable channel to operate upon
+     * @param delimiter records delimiter
+     * @param maxRecordSize maximum record size
+     */
+    public DelimiterScanner( final ReadableByteChannel delegate, final byte[] delimiter, final int maxRecordSize ) {
+        this( delegate, delimiter, maxRecordSize, CachingByteBufferPool.getDirectInstance() );
+    }
+
+    /**
+     * Creates a <code>DelimiterScanner</code>. The internal buffer is taken from passed pool
+     * and returned to it when this channel is closed.
+     *
+     * @param delegate readable channel to operate upon
+     * @param delimiter records delimiter
+     * @param maxRecordSize maximum record size
+     * @param pool buffers pool
+     */
+    public DelimiterScanner( final ReadableByteChannel delegate, final byte[] delimiter, final int maxRecordSize, final ByteBufferPool pool ) {
+        // ensure preconditions
+        super( delegate );
+        if ( delimiter == null || delimiter.length == 0 ) {
+            throw new IllegalArgumentException( "delimiter cannot be null or empty" );
+        }
+        if ( maxRecordSize <= 0 || maxRecordSize > Integer.MAX_VALUE - delimiter.length ) {
+            throw new IllegalArgumentException( "Maximum record size must be positive" );
+        }
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        // initialize
+        this.delimiter = delimiter.clone();
+        this.pattern = ( delimiter[ 0 ] & BYTE_MASK ) * ONES;
+        this.maxRecordSize = maxRecordSize;
+        this.pool = pool;
+        buffer = pool.allocate( Math.min( INITIAL_BUFFER_SIZE, maxRecordSize + delimiter.length ) );
+        words = buffer.duplicate().order( ByteOrder.LITTLE_ENDIAN );
+        buffer.limit( 0 );
+    }
+
+    /**
+     * Returns next record without the delimiter. Missing bytes are read from wrapped channel.
+     * Returned record is a slice of the internal buffer and it is valid until next operation on this channel.
+     * Bytes following the last delimiter are returned as the last record when wrapped channel reaches EOF.
+     * If wrapped channel is in non-blocking mode and whole record is not available yet,
+     * or if there are no more records, null is returned.
+     *
+     * @return next record or null
+     * @throws IOException if some I/O error occurs or if the record is too large
+     */
+    public ByteBuffer readRecord() throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        while ( true ) {
+            final int index = indexOf( Math.max( scanPosition, buffer.position() ), buffer.limit() );
+            if ( index >= 0 ) {
+                if ( index - buffer.position() > maxRecordSize ) {
+                    throw new IOException( "Record is too large" );
+                }
+                final ByteBuffer record = slice( index );
+                buffer.position( index + delimiter.length );
+                scanPosition = buffer.position();
+                return record;
+            }
+            if ( endOfStream ) {
+                if ( !buffer.hasRemaining() ) {
+                    return null;
+                }
+                if ( buffer.remaining() > maxRecordSize ) {
+                    throw new IOException( "Record is too large" );
+                }
+                final ByteBuffer record = slice( buffer.limit() );
+                buffer.position( buffer.limit() );
+                return record;
+            }
+            // a record of maximum size followed by the delimiter would have been found
+            if ( buffer.remaining() >= maxRecordSize + delimiter.length ) {
+                throw new IOException( "Record is too large" );
+            }
+            if ( buffer.position() == 0 && buffer.limit() == buffer.capacity() ) {
+                grow();
+            }
+            scanPosition -= buffer.position();
+            buffer.compact();
+            final int count;
+            try {
+                count = super.read( buffer );
+            } finally {
+                buffer.flip();
+            }
+            if ( count < 0 ) {
+                endOfStream = true;
+            } else if ( count == 0 ) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns true if wrapped channel reached EOF.
+     */
+    public boolean isEndOfStream() {
+        return endOfStream;
+    }
+
+    /**
+     * Returns buffered bytes not consumed as records first, then delegates the call to the wrapped channel.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( dst == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        if ( !dst.hasRemaining() ) {
+            return 0;
+        }
+        if ( buffer.hasRemaining() ) {
+            return BufferedReadableByteChannel.transfer( buffer, dst );
+        }
+        if ( endOfStream ) {
+            return -1;
+        }
+        return super.read( dst );
+    }
+
+    /**
+     * Releases the internal buffer and closes the wrapped channel.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            pool.free( buffer );
+            super.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+
+    private void grow() {
+        final int maxSize = maxRecordSize + delimiter.length;
+        final int capacity = buffer.capacity();
+        final ByteBuffer newBuffer = pool.allocate( capacity > maxSize / 2 ? maxSize : capacity * 2 );
+        words = newBuffer.duplicate().order( ByteOrder.LITTLE_ENDIAN );
+        newBuffer.put( buffer );
+        newBuffer.flip();
+        pool.free( buffer );
+        buffer = newBuffer;
+    }
+
+    private ByteBuffer slice( final int end ) {
+        final int limit = buffer.limit();
+        buffer.limit( end );
+        final ByteBuffer record = buffer.slice();
+        buffer.limit( limit );
+        return record;
+    }
+
+    /**
+     * Returns index of the first delimiter in the range or <B>-1</B> if there is none.
+     * Remembers where to continue scanning when more bytes are available.
+     */
+    private int indexOf( final int from, final int to ) {
+        int i = from;
+        while ( i + Long.BYTES <= to ) {
+            final long word = words.getLong( i ) ^ pattern;
+            long candidates = ( word - ONES ) & ~word & HIGHS;
+            while ( candidates != 0 ) {
+                final int candidate = i + ( Long.numberOfTrailingZeros( candidates ) >>> BITS_TO_BYTES_SHIFT );
+                final int match = match( candidate, to );
+                if ( match != 0 ) {
+                    return match > 0 ? candidate : -1;
+                }
+                candidates &= candidates - 1;
+            }
+            i += Long.BYTES;
+        }
+        for ( ; i < to; i++ ) {
+            final int match = match( i, to );
+            if ( match != 0 ) {
+                return match > 0 ? i : -1;
+            }
+        }
+        scanPosition = to;
+        return -1;
+    }
+
+    /**
+     * Returns positive value if the delimiter starts at the index, zero if it does not
+     * and negative value if more bytes are needed to decide.
+     */
+    private int match( final int index, final int to ) {
+        final int available = Math.min( delimiter.length, to - index );
+        for ( int j = 0; j < available; j++ ) {
+            if ( words.get( index + j ) != delimiter[ j ] ) {
+                return 0;
+            }
+        }
+        if ( available < delimiter.length ) {
+            scanPosition = index;
+            return -1;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * Encoding of frame length prefix used by {@link FramedReadableByteChannel} and {@link FramedWritableByteChannel}.
+ * Fixed width prefixes are stored in big endian byte order.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public enum FrameLength {
+
+    /**
+     * Unsigned variable length integer, seven bits per byte, least significant group first.
+     * Takes one to five bytes.
+     */
+    VARINT( Integer.MAX_VALUE, FrameLength.MAX_VARINT_SIZE ) {
+        @Override
+        void encode( final int length, final ByteBuffer dst ) {
+            int value = length;
+            while ( ( value & ~VARINT_MASK ) != 0 ) {
+                dst.put( ( byte ) ( ( value & VARINT_MASK ) | VARINT_CONTINUATION ) );
+                value >>>= VARINT_SHIFT;
+            }
+            dst.put( ( byte ) value );
+        }
+
+        @Override
+        int decode( final ByteBuffer src ) throws IOException {
+            final int start = src.position();
+            int value = 0;
+            for ( int i = 0; i < MAX_VARINT_SIZE; i++ ) {
+                if ( !src.hasRemaining() ) {
+                    src.position( start );
+                    return -1;
+                }
+                final int b = src.get();
+                if ( i == MAX_VARINT_SIZE - 1 && ( b & ~VARINT_LAST_MASK ) != 0 ) {
+                    // only four bits of int value remain for the last byte
+                    throw new IOException( "Malformed frame length" );
+                }
+                value |= ( b & VARINT_MASK ) << ( i * VARINT_SHIFT );
+                if ( ( b & VARINT_CONTINUATION ) == 0 ) {
+                    if ( value < 0 ) {
+                        throw new IOException( "Malformed frame length" );
+                    }
+                    return value;
+                }
+            }
+            throw new IOException( "Malformed frame length" );
+        }
+    },
+
+    /**
+     * Unsigned two bytes integer.
+     */
+    INT16( FrameLength.MAX_INT16, 2 ) {
+        @Override
+        void encode( final int length, final ByteBuffer dst ) {
+            dst.putShort( ( short ) length );
+        }
+
+        @Override
+        int decode( final ByteBuffer src ) {
+            if ( src.remaining() < 2 ) {
+                return -1;
+            }
+            return src.getShort() & MAX_INT16;
+        }
+    },
+
+    /**
+     * Signed four bytes integer, negative values are rejected.
+     */
+    INT32( Integer.MAX_VALUE, Integer.BYTES ) {
+        @Override
+        void encode( final int length, final ByteBuffer dst ) {
+            dst.putInt( length );
+        }
+
+        @Override
+        int decode( final ByteBuffer src ) throws IOException {
+            if ( src.remaining() < Integer.BYTES ) {
+                return -1;
+            }
+            final int value = src.getInt();
+            if ( value < 0 ) {
+                throw new IOException( "Malformed frame length" );
+            }
+            return value;
+        }
+    };
+
+    private static final int MAX_VARINT_SIZE = 5;
+
+    private static final int MAX_INT16 = 0xFFFF;
+
+    private static final int VARINT_SHIFT = 7;
+
+    private static final int VARINT_MASK = 0x7F;
+
+    private static final int VARINT_CONTINUATION = 0x80;
+
+    private static final int VARINT_LAST_MASK = 0x0F;
+
+    private final int maxLength;
+
+    private final int maxHeaderSize;
+
+    FrameLength( final int maxLength, final int maxHeaderSize ) {
+        this.maxLength = maxLength;
+        this.maxHeaderSize = maxHeaderSize;
+    }
+
+    /**
+     * Returns maximum frame length this encoding can express.
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    int getMaxHeaderSize() {
+        return maxHeaderSize;
+    }
+
+    /**
+     * Writes encoded length to the buffer.
+     */
+    abstract void encode( int length, ByteBuffer dst );
+
+    /**
+     * Reads encoded length from the buffer. If the buffer does not contain whole
+     * length prefix, its position is left unchanged and <B>-1</B> is returned.
+     */
+    abstract int decode( ByteBuffer src ) throws IOException;
+}
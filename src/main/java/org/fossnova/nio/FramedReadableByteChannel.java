@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * <P>
+ * A <code>FramedReadableByteChannel</code> decodes length prefixed frames read from the wrapped channel.
+ * Bytes are accumulated in an internal buffer until a whole frame is available and the frame
+ * is then returned by {@link #readFrame()} method as a slice of the internal buffer, without copying.
+ * </P>
+ * <P>
+ * Frames larger than configured maximum frame size cause <B>java.io.IOException</B>.
+ * Bytes not consumed as frames can still be read via {@link #read(ByteBuffer)} method.
+ * The internal buffer is taken from a {@link ByteBufferPool} and returned to it when this channel is closed.
+ * It starts small and grows up to maximum frame size only when a declared frame length needs it.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class FramedReadableByteChannel extends DelegatingReadableByteChannel {
+
+    static final int DEFAULT_MAX_FRAME_SIZE = 1024 * 1024;
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private final FrameLength frameLength;
+
+    private final int maxFrameSize;
+
+    private final ByteBufferPool pool;
+
+    private ByteBuffer buffer;
+
+    private boolean endOfStream;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>FramedReadableByteChannel</code> with default maximum frame size.
+     * The default is chosen so the frame buffer including the length prefix fits into 1 MiB.
+     *
+     * @param delegate readable channel to operate upon
+     * @param frameLength frame length prefix encoding
+     */
+    public FramedReadableByteChannel( final ReadableByteChannel delegate, final FrameLength frameLength ) {
+        this( delegate, frameLength, frameLength == null ? 0 : Math.min( DEFAULT_MAX_FRAME_SIZE - frameLength.getMaxHeaderSize(), frameLength.getMaxLength() ) );
+    }
+
+    /**
+     * Creates a <code>FramedReadableByteChannel</code>.
+     *
+     * @param delegate readable channel to operate upon
+     * @param frameLength frame length prefix encoding
+     * @param maxFrameSize maximum frame size
+     */
+    public FramedReadableByteChannel( final ReadableByteChannel delegate, final FrameLength frameLength, final int maxFrameSize ) {
+        this( delegate, frameLength, maxFrameSize, CachingByteBufferPool.getDirectInstance() );
+    }
+
+    /**
+     * Creates a <code>FramedReadableByteChannel</code>. The internal buffer is taken from passed pool
+     * and returned to it when this channel is closed.
+     *
+     * @param delegate readable channel to operate upon
+     * @param frameLength frame length prefix encoding
+     * @param maxFrameSize maximum frame size
+     * @param pool buffers pool
+     */
+    public FramedReadableByteChannel( final ReadableByteChannel delegate, final FrameLength frameLength, final int maxFrameSize,
+            final ByteBufferPool pool ) {
+        // ensure preconditions
+        super( delegate );
+        if ( frameLength == null ) {
+            throw new IllegalArgumentException( "frame length cannot be null" );
+        }
+        if ( maxFrameSize <= 0 || maxFrameSize > frameLength.getMaxLength() ) {
+            throw new IllegalArgumentException( "Maximum frame size must be positive and expressible by frame length encoding" );
+        }
+        if ( maxFrameSize > Integer.MAX_VALUE - frameLength.getMaxHeaderSize() ) {
+            throw new IllegalArgumentException( "Maximum frame size is too large" );
+        }
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        // initialize
+        this.frameLength = frameLength;
+        this.maxFrameSize = maxFrameSize;
+        this.pool = pool;
+        buffer = pool.allocate( Math.min( INITIAL_BUFFER_SIZE, maxFrameSize + frameLength.getMaxHeaderSize() ) );
+        buffer.limit( 0 );
+    }
+
+    /**
+     * Returns next frame. Missing bytes are read from wrapped channel.
+     * Returned frame is a slice of the internal buffer and it is valid until next operation on this channel.
+     * If wrapped channel is in non-blocking mode and whole frame is not available yet,
+     * or if wrapped channel reached EOF, null is returned.
+     *
+     * @return next frame or null
+     * @throws IOException if some I/O error occurs, if the frame is too large or if EOF was reached inside a frame
+     */
+    public ByteBuffer readFrame() throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        while ( true ) {
+            final int start = buffer.position();
+            final int length = frameLength.decode( buffer );
+            if ( length > maxFrameSize ) {
+                throw new IOException( "Frame is too large: " + length );
+            }
+            if ( length >= 0 && buffer.remaining() >= length ) {
+                final int limit = buffer.limit();
+                buffer.limit( buffer.position() + length );
+                final ByteBuffer frame = buffer.slice();
+                buffer.limit( limit );
+                buffer.position( buffer.position() + length );
+                return frame;
+            }
+            final int frameSize = length >= 0 ? buffer.position() - start + length : 0;
+            buffer.position( start );
+            if ( endOfStream ) {
+                if ( buffer.hasRemaining() ) {
+                    throw new IOException( "Unexpected end of stream inside a frame" );
+                }
+                return null;
+            }
+            if ( frameSize > buffer.capacity() ) {
+                grow( frameSize );
+            }
+            buffer.compact();
+            final int count;
+            try {
+                count = super.read( buffer );
+            } finally {
+                buffer.flip();
+            }
+            if ( count < 0 ) {
+                endOfStream = true;
+            } else if ( count == 0 ) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns true if wrapped channel reached EOF.
+     */
+    public boolean isEndOfStream() {
+        return endOfStream;
+    }
+
+    /**
+     * Returns buffered bytes not consumed as frames first, then delegates the call to the wrapped channel.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( dst == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        if ( !dst.hasRemaining() ) {
+            return 0;
+        }
+        if ( buffer.hasRemaining() ) {
+            return BufferedReadableByteChannel.transfer( buffer, dst );
+        }
+        if ( endOfStream ) {
+            return -1;
+        }
+        return super.read( dst );
+    }
+
+    /**
+     * Releases the internal buffer and closes the wrapped channel.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            pool.free( buffer );
+            super.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    private void grow( final int required ) {
+        final int maxSize = maxFrameSize + frameLength.getMaxHeaderSize();
+        final int capacity = buffer.capacity();
+        final int doubled = capacity > maxSize / 2 ? maxSize : capacity * 2;
+        final ByteBuffer newBuffer = pool.allocate( Math.max( required, doubled ) );
+        newBuffer.put( buffer );
+        newBuffer.flip();
+        pool.free( buffer );
+        buffer = newBuffer;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <P>
+ * A <code>FramedWritableByteChannel</code> encodes length prefixed frames written to the wrapped channel.
+ * Frame header and payload are passed to the wrapped channel in one gathering write
+ * if it is <code>GatheringByteChannel</code>, payload is never copied.
+ * </P>
+ * <P>
+ * If the wrapped channel is in non-blocking mode, a frame may be written only partially.
+ * Such frame has to be completed via {@link #completeFrame()} method before any other write.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class FramedWritableByteChannel extends DelegatingWritableByteChannel {
+
+    private final FrameLength frameLength;
+
+    private final int maxFrameSize;
+
+    private final ByteBuffer header;
+
+    private final ByteBuffer[] frame = new ByteBuffer[ 2 ];
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>FramedWritableByteChannel</code> with maximum frame size limited only by the encoding.
+     *
+     * @param delegate writable channel to operate upon
+     * @param frameLength frame length prefix encoding
+     */
+    public FramedWritableByteChannel( final WritableByteChannel delegate, final FrameLength frameLength ) {
+        this( delegate, frameLength, frameLength == null ? 0 : frameLength.getMaxLength() );
+    }
+
+    /**
+     * Creates a <code>FramedWritableByteChannel</code>.
+     *
+     * @param delegate writable channel to operate upon
+     * @param frameLength frame length prefix encoding
+     * @param maxFrameSize maximum frame size
+     */
+    public FramedWritableByteChannel( final WritableByteChannel delegate, final FrameLength frameLength, final int maxFrameSize ) {
+        // ensure preconditions
+        super( delegate );
+        if ( frameLength == null ) {
+            throw new IllegalArgumentException( "frame length cannot be null" );
+        }
+        if ( maxFrameSize <= 0 || maxFrameSize > frameLength.getMaxLength() ) {
+            throw new IllegalArgumentException( "Maximum frame size must be positive and expressible by frame length encoding" );
+        }
+        // initialize
+        this.frameLength = frameLength;
+        this.maxFrameSize = maxFrameSize;
+        header = ByteBuffer.allocate( frameLength.getMaxHeaderSize() );
+    }
+
+    /**
+     * Writes all remaining bytes of passed buffer as a single frame.
+     * Returns false if the frame was written only partially, in which case the buffer
+     * must not be modified until {@link #completeFrame()} returns true.
+     *
+     * @param payload frame content
+     * @return true if whole frame was written
+     * @throws IOException if some I/O error occurs
+     */
+    public boolean writeFrame( final ByteBuffer payload ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        ensureNoPendingFrame();
+        if ( payload == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        if ( payload.remaining() > maxFrameSize ) {
+            throw new IllegalArgumentException( "Frame is too large: " + payload.remaining() );
+        }
+        // the implementation
+        header.clear();
+        frameLength.encode( payload.remaining(), header );
+        header.flip();
+        frame[ 0 ] = header;
+        frame[ 1 ] = payload;
+        return completeFrame();
+    }
+
+    /**
+     * Continues writing of partially written frame.
+     *
+     * @return true if there is no partially written frame
+     * @throws IOException if some I/O error occurs
+     */
+    public boolean completeFrame() throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        if ( frame[ 1 ] == null ) {
+            return true;
+        }
+        final WritableByteChannel delegate = getDelegate();
+        while ( frame[ 1 ].hasRemaining() || header.hasRemaining() ) {
+            final long count;
+            if ( delegate instanceof GatheringByteChannel ) {
+                count = ( ( GatheringByteChannel ) delegate ).write( frame );
+            } else if ( header.hasRemaining() ) {
+                count = delegate.write( header );
+            } else {
+                count = delegate.write( frame[ 1 ] );
+            }
+            if ( count == 0 ) {
+                return false;
+            }
+        }
+        frame[ 0 ] = null;
+        frame[ 1 ] = null;
+        return true;
+    }
+
+    /**
+     * Returns true if there is partially written frame.
+     */
+    public boolean hasPendingFrame() {
+        return frame[ 1 ] != null;
+    }
+
+    /**
+     * Writes raw bytes bypassing the framing.
+     */
+    @Override
+    public int write( final ByteBuffer src ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        ensureNoPendingFrame();
+        // the implementation
+        return super.write( src );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            frame[ 0 ] = null;
+            frame[ 1 ] = null;
+            super.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+
+    private void ensureNoPendingFrame() {
+        if ( frame[ 1 ] != null ) {
+            throw new IllegalStateException( "Partially written frame must be completed first" );
+        }
+    }
+}
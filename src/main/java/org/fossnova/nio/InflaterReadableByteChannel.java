@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * <P>
+ * An <code>InflaterReadableByteChannel</code> decompresses bytes read from the wrapped channel
+ * using <code>java.util.zip.Inflater</code>. Compressed bytes are read into an input buffer
+ * taken from a {@link ByteBufferPool} and the inflater writes directly to passed buffers.
+ * The input is expected in ZLIB format, or raw DEFLATE format if <B>nowrap</B> is requested.
+ * GZIP framing is not supported.
+ * </P>
+ * <P>
+ * EOF is reported at the end of the compressed stream. Bytes following the compressed stream may already
+ * have been read from the wrapped channel into the input buffer. These are available via {@link #getRemaining()}
+ * and {@link #readRemaining(ByteBuffer)} methods, the rest of them can be read from the wrapped channel directly.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class InflaterReadableByteChannel extends DelegatingReadableByteChannel {
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final Inflater inflater;
+
+    private final ByteBufferPool pool;
+
+    private final ByteBuffer buffer;
+
+    private boolean closed;
+
+    /**
+     * Creates an <code>InflaterReadableByteChannel</code> expecting ZLIB format.
+     *
+     * @param delegate readable channel to operate upon
+     */
+    public InflaterReadableByteChannel( final ReadableByteChannel delegate ) {
+        this( delegate, false, DEFAULT_BUFFER_SIZE, CachingByteBufferPool.getDirectInstance() );
+    }
+
+    /**
+     * Creates an <code>InflaterReadableByteChannel</code>. The input buffer is taken from passed pool
+     * and returned to it when this channel is closed.
+     *
+     * @param delegate readable channel to operate upon
+     * @param nowrap whether to expect raw DEFLATE format instead of ZLIB format
+     * @param bufferSize minimum input buffer size
+     * @param pool buffers pool
+     */
+    public InflaterReadableByteChannel( final ReadableByteChannel delegate, final boolean nowrap, final int bufferSize,
+            final ByteBufferPool pool ) {
+        // ensure preconditions
+        super( delegate );
+        if ( bufferSize <= 0 ) {
+            throw new IllegalArgumentException( "Buffer size must be positive" );
+        }
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        // initialize
+        this.pool = pool;
+        buffer = pool.allocate( bufferSize );
+        buffer.limit( 0 );
+        inflater = new Inflater( nowrap );
+        inflater.setInput( buffer );
+    }
+
+    /**
+     * Decompresses bytes into the buffer. Compressed bytes are read from the wrapped channel when needed.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( dst == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        if ( !dst.hasRemaining() ) {
+            return 0;
+        }
+        while ( true ) {
+            if ( inflater.finished() ) {
+                return -1;
+            }
+            final int count;
+            try {
+                count = inflater.inflate( dst );
+            } catch ( final DataFormatException e ) {
+                throw new ZipException( e.getMessage() );
+            }
+            if ( count > 0 ) {
+                return count;
+            }
+            if ( inflater.needsDictionary() ) {
+                throw new ZipException( "Preset dictionary is not supported" );
+            }
+            if ( inflater.needsInput() && !fill() ) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns count of bytes following the compressed stream that were read from the wrapped channel
+     * but not consumed by the inflater. Returns zero before the end of the compressed stream is reached.
+     *
+     * @return count of buffered bytes following the compressed stream
+     */
+    public int getRemaining() {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        return inflater.finished() ? buffer.remaining() : 0;
+    }
+
+    /**
+     * Transfers bytes following the compressed stream that were read from the wrapped channel
+     * but not consumed by the inflater. Bytes not buffered yet must be read from the wrapped channel.
+     *
+     * @param dst buffer to transfer bytes to
+     * @return count of bytes transferred, -1 if there are no such bytes buffered
+     * @throws IllegalStateException if the end of the compressed stream was not reached yet
+     */
+    public int readRemaining( final ByteBuffer dst ) {
+        // ensure preconditions
+        ensureOpen();
+        if ( dst == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        if ( !inflater.finished() ) {
+            throw new IllegalStateException( "Compressed stream was not finished yet" );
+        }
+        // the implementation
+        if ( !buffer.hasRemaining() ) {
+            return -1;
+        }
+        return BufferedReadableByteChannel.transfer( buffer, dst );
+    }
+
+    /**
+     * Releases resources and closes the wrapped channel.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            inflater.end();
+            pool.free( buffer );
+            super.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+
+    private boolean fill() throws IOException {
+        buffer.compact();
+        final int count;
+        try {
+            count = super.read( buffer );
+        } finally {
+            buffer.flip();
+        }
+        if ( count < 0 ) {
+            throw new EOFException( "Unexpected end of compressed stream" );
+        }
+        inflater.setInput( buffer );
+        return count > 0;
+    }
+}
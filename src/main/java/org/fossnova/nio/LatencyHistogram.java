@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * A <code>LatencyHistogram</code> counts recorded nanosecond latencies in logarithmic buckets.
+ * Each power of two range is split into 32 linear sub buckets, so any value is reported
+ * with relative error below 3.2 percent. Values above 2^40 nanoseconds (about 18 minutes)
+ * are counted in the last bucket. The histogram occupies fixed amount of memory
+ * and recording never allocates.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+
+    private static final long MAX_VALUE = ( 1L << 40 ) - 1;
+
+    static final int BUCKET_COUNT = indexOf( MAX_VALUE ) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray( BUCKET_COUNT );
+
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos latency in nanoseconds, negative values are recorded as zero
+     */
+    public void record( final long nanos ) {
+        final long value = nanos < 0 ? 0 : Math.min( nanos, MAX_VALUE );
+        counts.incrementAndGet( indexOf( value ) );
+        long current = max.get();
+        while ( nanos > current && !max.compareAndSet( current, nanos ) ) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Returns snapshot of recorded latencies.
+     */
+    public LatencyHistogramSnapshot getSnapshot() {
+        final long[] snapshot = new long[ BUCKET_COUNT ];
+        for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+            snapshot[ i ] = counts.get( i );
+        }
+        return new LatencyHistogramSnapshot( snapshot, max.get() );
+    }
+
+    /**
+     * Returns snapshot of recorded latencies and resets this histogram.
+     * No concurrently recorded latency is lost, it is either part of returned
+     * snapshot or it stays recorded in this histogram.
+     */
+    public LatencyHistogramSnapshot getSnapshotAndReset() {
+        final long snapshotMax = max.getAndSet( 0 );
+        final long[] snapshot = new long[ BUCKET_COUNT ];
+        for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+            snapshot[ i ] = counts.getAndSet( i, 0 );
+        }
+        return new LatencyHistogramSnapshot( snapshot, snapshotMax );
+    }
+
+    /**
+     * Resets this histogram.
+     */
+    public void reset() {
+        getSnapshotAndReset();
+    }
+
+    static int indexOf( final long value ) {
+        if ( value < SUB_BUCKET_COUNT ) {
+            return ( int ) value;
+        }
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros( value ) - SUB_BUCKET_BITS;
+        return ( ( shift + 1 ) << SUB_BUCKET_BITS ) + ( int ) ( ( value >>> shift ) - SUB_BUCKET_COUNT );
+    }
+
+    static long lowestValueAt( final int index ) {
+        if ( index < SUB_BUCKET_COUNT ) {
+            return index;
+        }
+        final int shift = ( index >>> SUB_BUCKET_BITS ) - 1;
+        return ( long ) ( SUB_BUCKET_COUNT + ( index & SUB_BUCKET_MASK ) ) << shift;
+    }
+
+    static long highestValueAt( final int index ) {
+        return lowestValueAt( index + 1 ) - 1;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+/**
+ * <p>
+ * Snapshot of {@link LatencyHistogram} counts.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class LatencyHistogramSnapshot {
+
+    private static final double HUNDRED_PERCENT = 100.0;
+
+    private final long[] counts;
+
+    private final long count;
+
+    private final long max;
+
+    LatencyHistogramSnapshot( final long[] counts, final long max ) {
+        this.counts = counts;
+        this.max = max;
+        long total = 0;
+        for ( final long bucketCount : counts ) {
+            total += bucketCount;
+        }
+        count = total;
+    }
+
+    /**
+     * Returns count of recorded latencies.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the highest recorded latency in nanoseconds.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns approximate mean latency in nanoseconds.
+     */
+    public double getMean() {
+        if ( count == 0 ) {
+            return 0;
+        }
+        double total = 0;
+        for ( int i = 0; i < counts.length; i++ ) {
+            if ( counts[ i ] != 0 ) {
+                final long lowest = LatencyHistogram.lowestValueAt( i );
+                final long highest = Math.min( LatencyHistogram.highestValueAt( i ), max );
+                total += counts[ i ] * ( lowest + ( highest - lowest ) / 2.0 );
+            }
+        }
+        return total / count;
+    }
+
+    /**
+     * Returns latency in nanoseconds that is not exceeded by given percentage of recorded latencies.
+     * The value is the upper bound of the bucket the latency was counted in.
+     *
+     * @param percentile percentage from 0 to 100, for example 99.9
+     * @return latency at percentile
+     */
+    public long getValueAtPercentile( final double percentile ) {
+        // ensure preconditions
+        if ( percentile < 0 || percentile > HUNDRED_PERCENT ) {
+            throw new IllegalArgumentException( "percentile must be between 0 and 100" );
+        }
+        // the implementation
+        if ( count == 0 ) {
+            return 0;
+        }
+        final long rank = Math.max( 1, ( long ) Math.ceil( percentile / HUNDRED_PERCENT * count ) );
+        long seen = 0;
+        for ( int i = 0; i < counts.length; i++ ) {
+            seen += counts[ i ];
+            if ( seen >= rank ) {
+                return Math.min( LatencyHistogram.highestValueAt( i ), max );
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Executor;
+
+/**
+ * <P>
+ * A <code>MappedReadableByteChannel</code> reads the wrapped file channel through
+ * memory mapped windows of configurable size instead of calling its read method.
+ * The window slides along as the position advances. Reading starts at the file channel
+ * position at construction time and the file channel position is never modified.
+ * </P>
+ * <P>
+ * If an executor is provided, the next window is mapped in advance and its content is
+ * loaded into physical memory by the executor while the current window is being read.
+ * </P>
+ * <P>
+ * The file is expected to be appended only. File size is rechecked whenever the end
+ * of the last known window is reached, so appended bytes become visible to subsequent reads.
+ * Mappings are released by the garbage collector.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class MappedReadableByteChannel extends DelegatingReadableByteChannel {
+
+    static final int DEFAULT_WINDOW_SIZE = 16 * 1024 * 1024;
+
+    private final int windowSize;
+
+    private final Executor readAheadExecutor;
+
+    private MappedByteBuffer window;
+
+    private long windowStart;
+
+    private MappedByteBuffer nextWindow;
+
+    private long nextWindowStart;
+
+    private long position;
+
+    private long size;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>MappedReadableByteChannel</code> with default window size and no read-ahead.
+     *
+     * @param delegate file channel to operate upon
+     * @throws IOException if some I/O error occurs
+     */
+    public MappedReadableByteChannel( final FileChannel delegate ) throws IOException {
+        this( delegate, DEFAULT_WINDOW_SIZE, null );
+    }
+
+    /**
+     * Creates a <code>MappedReadableByteChannel</code>.
+     *
+     * @param delegate file channel to operate upon
+     * @param windowSize size of mapped windows, should be multiple of page size
+     * @param readAheadExecutor executor loading next window in advance, or null for no read-ahead
+     * @throws IOException if some I/O error occurs
+     */
+    public MappedReadableByteChannel( final FileChannel delegate, final int windowSize, final Executor readAheadExecutor ) throws IOException {
+        // ensure preconditions
+        super( delegate );
+        if ( windowSize <= 0 ) {
+            throw new IllegalArgumentException( "Window size must be positive" );
+        }
+        // initialize
+        this.windowSize = windowSize;
+        this.readAheadExecutor = readAheadExecutor;
+        position = delegate.position();
+        size = delegate.size();
+    }
+
+    /**
+     * Returns wrapped channel.
+     */
+    @Override
+    protected FileChannel getDelegate() {
+        return ( FileChannel ) super.getDelegate();
+    }
+
+    /**
+     * Returns current read position.
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Sets read position.
+     *
+     * @param newPosition new read position
+     */
+    public void position( final long newPosition ) {
+        // ensure preconditions
+        ensureOpen();
+        if ( newPosition < 0 ) {
+            throw new IllegalArgumentException( "position must be positive" );
+        }
+        // the implementation
+        position = newPosition;
+    }
+
+    /**
+     * Copies bytes from the mapped window to the buffer.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( dst == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        if ( !dst.hasRemaining() ) {
+            return 0;
+        }
+        if ( window == null || position < windowStart || position >= windowStart + window.capacity() ) {
+            if ( !slide() ) {
+                return -1;
+            }
+        }
+        final int offset = ( int ) ( position - windowStart );
+        final int count = Math.min( dst.remaining(), window.capacity() - offset );
+        window.limit( offset + count );
+        window.position( offset );
+        dst.put( window );
+        position += count;
+        return count;
+    }
+
+    /**
+     * Releases mapped windows and closes the wrapped channel.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            window = null;
+            nextWindow = null;
+            super.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+
+    private boolean slide() throws IOException {
+        if ( position >= size ) {
+            size = getDelegate().size();
+            if ( position >= size ) {
+                return false;
+            }
+        }
+        final long start = position - position % windowSize;
+        if ( nextWindow != null && nextWindowStart == start && nextWindow.capacity() == windowLength( start ) ) {
+            window = nextWindow;
+        } else {
+            window = map( start );
+        }
+        windowStart = start;
+        nextWindow = null;
+        readAhead( start + windowSize );
+        return true;
+    }
+
+    private void readAhead( final long start ) throws IOException {
+        if ( readAheadExecutor == null || start >= size ) {
+            return;
+        }
+        final MappedByteBuffer next = map( start );
+        nextWindow = next;
+        nextWindowStart = start;
+        readAheadExecutor.execute( next::load );
+    }
+
+    private MappedByteBuffer map( final long start ) throws IOException {
+        return getDelegate().map( FileChannel.MapMode.READ_ONLY, start, windowLength( start ) );
+    }
+
+    private int windowLength( final long start ) {
+        return ( int ) Math.min( windowSize, size - start );
+    }
+}
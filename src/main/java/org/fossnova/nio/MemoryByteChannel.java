@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <P>
+ * A <code>MemoryByteChannel</code> stores written bytes in memory and allows them to be read back.
+ * Data is stored in a list of fixed size segments, so growing the channel never copies existing data.
+ * Segments are taken from a {@link ByteBufferPool} and returned to it when the channel
+ * is truncated or closed.
+ * </P>
+ * <P>
+ * Writing past the end of the channel fills the gap with zeros.
+ * Stored content can be accessed without copying via {@link #asReadOnlyBuffers()} method.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class MemoryByteChannel implements SeekableByteChannel {
+
+    static final int DEFAULT_SEGMENT_SIZE = 8192;
+
+    private final List<ByteBuffer> segments = new ArrayList<>();
+
+    private final int segmentSize;
+
+    private final ByteBufferPool pool;
+
+    private long position;
+
+    private long size;
+
+    private boolean closed;
+
+    /**
+     * Creates an empty <code>MemoryByteChannel</code> with default segment size.
+     */
+    public MemoryByteChannel() {
+        this( DEFAULT_SEGMENT_SIZE );
+    }
+
+    /**
+     * Creates an empty <code>MemoryByteChannel</code>.
+     *
+     * @param segmentSize size of storage segments
+     */
+    public MemoryByteChannel( final int segmentSize ) {
+        this( segmentSize, CachingByteBufferPool.getHeapInstance() );
+    }
+
+    /**
+     * Creates an empty <code>MemoryByteChannel</code> with segments taken from passed pool.
+     *
+     * @param segmentSize size of storage segments
+     * @param pool segments pool
+     */
+    public MemoryByteChannel( final int segmentSize, final ByteBufferPool pool ) {
+        // ensure preconditions
+        if ( segmentSize <= 0 ) {
+            throw new IllegalArgumentException( "Segment size must be positive" );
+        }
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        // initialize
+        this.segmentSize = segmentSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Reads bytes from current position.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( dst == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        if ( !dst.hasRemaining() ) {
+            return 0;
+        }
+        if ( position >= size ) {
+            return -1;
+        }
+        int count = 0;
+        while ( dst.hasRemaining() && position < size ) {
+            final ByteBuffer segment = segments.get( ( int ) ( position / segmentSize ) );
+            final int offset = ( int ) ( position % segmentSize );
+            final int length = ( int ) Math.min( Math.min( dst.remaining(), segmentSize - offset ), size - position );
+            segment.limit( offset + length );
+            segment.position( offset );
+            dst.put( segment );
+            position += length;
+            count += length;
+        }
+        return count;
+    }
+
+    /**
+     * Writes bytes at current position, growing the channel if necessary.
+     */
+    @Override
+    public int write( final ByteBuffer src ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( src == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        final int count = src.remaining();
+        if ( count == 0 ) {
+            return 0;
+        }
+        final long end = position + count;
+        ensureCapacity( end );
+        if ( position > size ) {
+            zero( size, position );
+        }
+        final int srcLimit = src.limit();
+        try {
+            while ( position < end ) {
+                final ByteBuffer segment = segments.get( ( int ) ( position / segmentSize ) );
+                final int offset = ( int ) ( position % segmentSize );
+                final int length = ( int ) Math.min( segmentSize - offset, end - position );
+                segment.limit( offset + length );
+                segment.position( offset );
+                src.limit( src.position() + length );
+                segment.put( src );
+                position += length;
+            }
+        } finally {
+            src.limit( srcLimit );
+        }
+        if ( position > size ) {
+            size = position;
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long position() throws IOException {
+        ensureOpen();
+        return position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MemoryByteChannel position( final long newPosition ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( newPosition < 0 ) {
+            throw new IllegalArgumentException( "position must be positive" );
+        }
+        // the implementation
+        position = newPosition;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long size() throws IOException {
+        ensureOpen();
+        return size;
+    }
+
+    /**
+     * Truncates this channel and returns no longer used segments to the pool.
+     */
+    @Override
+    public MemoryByteChannel truncate( final long newSize ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( newSize < 0 ) {
+            throw new IllegalArgumentException( "size must be positive" );
+        }
+        // the implementation
+        if ( newSize < size ) {
+            size = newSize;
+            final long required = ( newSize + segmentSize - 1 ) / segmentSize;
+            while ( segments.size() > required ) {
+                pool.free( segments.remove( segments.size() - 1 ) );
+            }
+        }
+        if ( position > newSize ) {
+            position = newSize;
+        }
+        return this;
+    }
+
+    /**
+     * Returns read-only views of stored content. Views share content with this channel
+     * and are valid until this channel is modified, truncated or closed.
+     *
+     * @return read-only views of stored content in order
+     */
+    public ByteBuffer[] asReadOnlyBuffers() {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        final int count = ( int ) ( ( size + segmentSize - 1 ) / segmentSize );
+        final ByteBuffer[] views = new ByteBuffer[ count ];
+        for ( int i = 0; i < count; i++ ) {
+            final ByteBuffer view = segments.get( i ).asReadOnlyBuffer();
+            view.limit( ( int ) Math.min( segmentSize, size - ( long ) i * segmentSize ) );
+            view.position( 0 );
+            views[ i ] = view;
+        }
+        return views;
+    }
+
+    /**
+     * Returns all segments to the pool.
+     */
+    @Override
+    public void close() {
+        if ( !closed ) {
+            closed = true;
+            for ( final ByteBuffer segment : segments ) {
+                pool.free( segment );
+            }
+            segments.clear();
+            size = 0;
+            position = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+
+    private void ensureCapacity( final long capacity ) throws IOException {
+        final long required = ( capacity + segmentSize - 1 ) / segmentSize;
+        if ( required > Integer.MAX_VALUE ) {
+            throw new IOException( "Channel is too large" );
+        }
+        while ( segments.size() < required ) {
+            segments.add( pool.allocate( segmentSize ) );
+        }
+    }
+
+    private void zero( final long from, final long to ) {
+        long current = from;
+        while ( current < to ) {
+            final ByteBuffer segment = segments.get( ( int ) ( current / segmentSize ) );
+            final int offset = ( int ) ( current % segmentSize );
+            final int length = ( int ) Math.min( segmentSize - offset, to - current );
+            segment.limit( offset + length );
+            for ( int i = offset; i < offset + length; i++ ) {
+                segment.put( i, ( byte ) 0 );
+            }
+            current += length;
+        }
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <P>
+ * A <code>MemoryPipe</code> is an in-process replacement of <code>java.nio.channels.Pipe</code>.
+ * Bytes written to the {@link #sink()} channel are available for reading from the {@link #source()} channel.
+ * Both ends share a lock-free ring buffer stored in direct <code>ByteBuffer</code>, no kernel
+ * resources are involved.
+ * </P>
+ * <P>
+ * In blocking mode write operations wait until all bytes are written and read operations
+ * wait until at least one byte is available. In non-blocking mode operations return immediately.
+ * Reading from the source returns <B>-1</B> once the sink is closed and all written bytes were read.
+ * Writing to the sink after the source was closed causes <B>java.io.IOException</B>.
+ * </P>
+ * <p>
+ * This class is thread safe for one writing and one reading thread.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class MemoryPipe {
+
+    static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private static final int ENDS_COUNT = 2;
+
+    private final ByteBuffer ring;
+
+    private final int capacity;
+
+    private final boolean blocking;
+
+    private final ByteBufferPool pool;
+
+    private final AtomicInteger openEnds = new AtomicInteger( ENDS_COUNT );
+
+    private final Sink sink;
+
+    private final Source source;
+
+    private volatile long head;
+
+    private volatile long tail;
+
+    private volatile boolean sinkClosed;
+
+    private volatile boolean sourceClosed;
+
+    private volatile Thread waitingReader;
+
+    private volatile Thread waitingWriter;
+
+    /**
+     * Creates a blocking <code>MemoryPipe</code> with default capacity.
+     */
+    public MemoryPipe() {
+        this( DEFAULT_CAPACITY );
+    }
+
+    /**
+     * Creates a blocking <code>MemoryPipe</code>.
+     *
+     * @param capacity count of bytes the pipe can hold
+     */
+    public MemoryPipe( final int capacity ) {
+        this( capacity, true );
+    }
+
+    /**
+     * Creates a <code>MemoryPipe</code>.
+     *
+     * @param capacity count of bytes the pipe can hold
+     * @param blocking whether pipe channels block
+     */
+    public MemoryPipe( final int capacity, final boolean blocking ) {
+        this( capacity, blocking, CachingByteBufferPool.getDirectInstance() );
+    }
+
+    /**
+     * Creates a <code>MemoryPipe</code> with ring buffer taken from passed pool.
+     * The ring buffer is returned to the pool when both pipe channels are closed.
+     *
+     * @param capacity count of bytes the pipe can hold
+     * @param blocking whether pipe channels block
+     * @param pool ring buffer pool
+     */
+    public MemoryPipe( final int capacity, final boolean blocking, final ByteBufferPool pool ) {
+        // ensure preconditions
+        if ( capacity <= 0 ) {
+            throw new IllegalArgumentException( "Capacity must be positive" );
+        }
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        // initialize
+        this.capacity = capacity;
+        this.blocking = blocking;
+        this.pool = pool;
+        ring = pool.allocate( capacity );
+        sink = new Sink();
+        source = new Source();
+    }
+
+    /**
+     * Returns the channel to which bytes are written.
+     */
+    public WritableByteChannel sink() {
+        return sink;
+    }
+
+    /**
+     * Returns the channel from which bytes are read.
+     */
+    public ReadableByteChannel source() {
+        return source;
+    }
+
+    /**
+     * Returns true if pipe channels block.
+     */
+    public boolean isBlocking() {
+        return blocking;
+    }
+
+    private void release() {
+        if ( openEnds.decrementAndGet() == 0 ) {
+            pool.free( ring );
+        }
+    }
+
+    private static void unpark( final Thread thread ) {
+        if ( thread != null ) {
+            LockSupport.unpark( thread );
+        }
+    }
+
+    private final class Sink implements WritableByteChannel {
+
+        private final ByteBuffer view = ring.duplicate();
+
+        @Override
+        public int write( final ByteBuffer src ) throws IOException {
+            // ensure preconditions
+            ensureOpen();
+            if ( src == null ) {
+                throw new IllegalArgumentException( "buffer cannot be null" );
+            }
+            // the implementation
+            int count = 0;
+            while ( src.hasRemaining() ) {
+                if ( sourceClosed ) {
+                    throw new IOException( "Broken pipe" );
+                }
+                final long t = tail;
+                final long free = capacity - ( t - head );
+                if ( free == 0 ) {
+                    if ( !blocking ) {
+                        break;
+                    }
+                    awaitSpace( t, count );
+                    continue;
+                }
+                final int offset = ( int ) ( t % capacity );
+                final int length = ( int ) Math.min( Math.min( src.remaining(), free ), capacity - offset );
+                final int srcLimit = src.limit();
+                view.limit( offset + length );
+                view.position( offset );
+                src.limit( src.position() + length );
+                view.put( src );
+                src.limit( srcLimit );
+                tail = t + length;
+                count += length;
+                unpark( waitingReader );
+            }
+            return count;
+        }
+
+        private void awaitSpace( final long t, final int count ) throws InterruptedIOException {
+            waitingWriter = Thread.currentThread();
+            try {
+                if ( t - head == capacity && !sourceClosed ) {
+                    LockSupport.park( this );
+                }
+            } finally {
+                waitingWriter = null;
+            }
+            if ( Thread.interrupted() ) {
+                Thread.currentThread().interrupt();
+                final InterruptedIOException e = new InterruptedIOException( "Interrupted while waiting for space" );
+                e.bytesTransferred = count;
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            if ( !sinkClosed ) {
+                sinkClosed = true;
+                unpark( waitingReader );
+                release();
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !sinkClosed;
+        }
+
+        private void ensureOpen() {
+            if ( sinkClosed ) {
+                throw new IllegalStateException( "Channel is closed" );
+            }
+        }
+    }
+
+    private final class Source implements ReadableByteChannel {
+
+        private final ByteBuffer view = ring.duplicate();
+
+        @Override
+        public int read( final ByteBuffer dst ) throws IOException {
+            // ensure preconditions
+            ensureOpen();
+            if ( dst == null ) {
+                throw new IllegalArgumentException( "buffer cannot be null" );
+            }
+            // the implementation
+            if ( !dst.hasRemaining() ) {
+                return 0;
+            }
+            while ( true ) {
+                final long h = head;
+                final long available = tail - h;
+                if ( available == 0 ) {
+                    if ( sinkClosed ) {
+                        if ( tail == h ) {
+                            return -1;
+                        }
+                        continue;
+                    }
+                    if ( !blocking ) {
+                        return 0;
+                    }
+                    awaitData( h );
+                    continue;
+                }
+                final int count = ( int ) Math.min( dst.remaining(), available );
+                int transferred = 0;
+                while ( transferred < count ) {
+                    final int offset = ( int ) ( ( h + transferred ) % capacity );
+                    final int length = Math.min( count - transferred, capacity - offset );
+                    view.limit( offset + length );
+                    view.position( offset );
+                    dst.put( view );
+                    transferred += length;
+                }
+                head = h + count;
+                unpark( waitingWriter );
+                return count;
+            }
+        }
+
+        private void awaitData( final long h ) throws InterruptedIOException {
+            waitingReader = Thread.currentThread();
+            try {
+                if ( tail == h && !sinkClosed ) {
+                    LockSupport.park( this );
+                }
+            } finally {
+                waitingReader = null;
+            }
+            if ( Thread.interrupted() ) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException( "Interrupted while waiting for data" );
+            }
+        }
+
+        @Override
+        public void close() {
+            if ( !sourceClosed ) {
+                sourceClosed = true;
+                unpark( waitingWriter );
+                release();
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !sourceClosed;
+        }
+
+        private void ensureOpen() {
+            if ( sourceClosed ) {
+                throw new IllegalStateException( "Channel is closed" );
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * <p>
+ * A <code>MeteredReadableByteChannel</code> records statistics of calls of the wrapped channel
+ * into a {@link ChannelMeter}. Time spent in the wrapped channel is measured
+ * only if the meter is timed, otherwise metering costs just a few counter updates.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class MeteredReadableByteChannel extends DelegatingReadableByteChannel {
+
+    private final ChannelMeter meter;
+
+    private final boolean timed;
+
+    /**
+     * Creates a <code>MeteredReadableByteChannel</code> that wraps passed
+     * readable channel and records its statistics into its own meter.
+     *
+     * @param delegate readable channel to operate upon
+     */
+    public MeteredReadableByteChannel( final ReadableByteChannel delegate ) {
+        this( delegate, new ChannelMeter() );
+    }
+
+    /**
+     * Creates a <code>MeteredReadableByteChannel</code> that wraps passed
+     * readable channel and records its statistics into passed meter.
+     *
+     * @param delegate readable channel to operate upon
+     * @param meter to record statistics into
+     */
+    public MeteredReadableByteChannel( final ReadableByteChannel delegate, final ChannelMeter meter ) {
+        // ensure preconditions
+        super( delegate );
+        if ( meter == null ) {
+            throw new IllegalArgumentException( "Meter cannot be null" );
+        }
+        // initialize
+        this.meter = meter;
+        timed = meter.isTimed();
+    }
+
+    /**
+     * Returns meter this channel records its statistics into.
+     */
+    public ChannelMeter getMeter() {
+        return meter;
+    }
+
+    /**
+     * Delegates the call to the wrapped channel and records its result.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        if ( !timed ) {
+            final int count = getDelegate().read( dst );
+            meter.recordRead( count, 0 );
+            return count;
+        }
+        final long start = System.nanoTime();
+        final int count = getDelegate().read( dst );
+        meter.recordRead( count, System.nanoTime() - start );
+        return count;
+    }
+}
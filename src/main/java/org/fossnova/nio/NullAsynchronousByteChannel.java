@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.Future;
+
+/**
+ * An <code>NullAsynchronousByteChannel</code> does nothing. It is always at the EOF position
+ * and it consumes all written bytes. Operations complete immediately in the calling thread.
+ * It never fails.
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class NullAsynchronousByteChannel implements AsynchronousByteChannel {
+
+    private static final NullAsynchronousByteChannel INSTANCE = new NullAsynchronousByteChannel();
+
+    private NullAsynchronousByteChannel() {
+    }
+
+    /**
+     * Returns <code>NullAsynchronousByteChannel</code> singleton instance.
+     */
+    public static NullAsynchronousByteChannel getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Always returns true.
+     */
+    @Override
+    public boolean isOpen() {
+        return true;
+    }
+
+    /**
+     * Does nothing.
+     */
+    @Override
+    public void close() throws IOException {
+    }
+
+    /**
+     * Completes with <B>-1</B>.
+     */
+    @Override
+    public <A> void read( final ByteBuffer dst, final A attachment, final CompletionHandler<Integer, ? super A> handler ) {
+        handler.completed( -1, attachment );
+    }
+
+    /**
+     * Returns future completed with <B>-1</B>.
+     */
+    @Override
+    public Future<Integer> read( final ByteBuffer dst ) {
+        return CompletedFuture.EOF;
+    }
+
+    /**
+     * Consumes all remaining bytes and completes with their count.
+     */
+    @Override
+    public <A> void write( final ByteBuffer src, final A attachment, final CompletionHandler<Integer, ? super A> handler ) {
+        handler.completed( consume( src ), attachment );
+    }
+
+    /**
+     * Consumes all remaining bytes and returns future completed with their count.
+     */
+    @Override
+    public Future<Integer> write( final ByteBuffer src ) {
+        return CompletedFuture.completed( consume( src ) );
+    }
+
+    private static int consume( final ByteBuffer buffer ) {
+        final int retVal = buffer.limit() - buffer.position();
+        buffer.position( buffer.limit() );
+        return retVal;
+    }
+}
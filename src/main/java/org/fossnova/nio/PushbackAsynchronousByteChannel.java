@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * <P>
+ * A <code>PushbackAsynchronousByteChannel</code> allows one or more bytes to be pushed back to the channel.
+ * If there are some pushed back bytes in the channel, read operations are completed
+ * with these bytes immediately in the calling thread, without calling the wrapped channel.
+ * If there are no pushed back bytes then read operations are delegated to wrapped channel
+ * together with passed completion handler, nothing is allocated per operation.
+ * </P>
+ * <P>
+ * Like the JDK asynchronous channels this class limits the number of completion handlers
+ * invoked directly on the stack of a thread. Completion handlers that initiate
+ * another read may thus consume pushed back bytes recursively, but once the limit
+ * is exceeded the completion handler is dispatched to the common fork join pool.
+ * </P>
+ * <P>
+ * The push back buffer has either fixed length or it starts small and grows
+ * on demand up to its maximum length. Any attempt to push back more bytes
+ * than maximum buffer length will cause <B>java.io.IOException</B>.
+ * Push back buffers are taken from a {@link ByteBufferPool}
+ * and returned to it when this channel is closed.
+ * </P>
+ * <p>
+ * This class is not thread safe. Bytes must not be pushed back while a read operation is pending.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class PushbackAsynchronousByteChannel extends DelegatingAsynchronousByteChannel {
+
+    private static final int MAX_INVOKE_DIRECT_DEPTH = 16;
+
+    private static final ThreadLocal<int[]> INVOKE_DIRECT_DEPTH = ThreadLocal.withInitial( () -> new int[ 1 ] );
+
+    private final PushbackBuffer pushBuffer;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>PushbackAsynchronousByteChannel</code> that wraps passed
+     * asynchronous channel with a one-byte pushback buffer size.
+     * 
+     * @param delegate asynchronous channel to operate upon
+     */
+    public PushbackAsynchronousByteChannel( final AsynchronousByteChannel delegate ) {
+        this( delegate, 1 );
+    }
+
+    /**
+     * Creates a <code>PushbackAsynchronousByteChannel</code> that wraps passed
+     * asynchronous channel.
+     * 
+     * @param delegate asynchronous channel to operate upon
+     * @param size fixed push back buffer size
+     */
+    public PushbackAsynchronousByteChannel( final AsynchronousByteChannel delegate, final int size ) {
+        this( delegate, size, size );
+    }
+
+    /**
+     * Creates a <code>PushbackAsynchronousByteChannel</code> that wraps passed
+     * asynchronous channel. The push back buffer starts with initial size
+     * and grows on demand up to maximum size.
+     * 
+     * @param delegate asynchronous channel to operate upon
+     * @param initialSize initial push back buffer size
+     * @param maxSize maximum push back buffer size
+     */
+    public PushbackAsynchronousByteChannel( final AsynchronousByteChannel delegate, final int initialSize, final int maxSize ) {
+        this( delegate, initialSize, maxSize, false );
+    }
+
+    /**
+     * Creates a <code>PushbackAsynchronousByteChannel</code> that wraps passed
+     * asynchronous channel. The push back buffer starts with initial size
+     * and grows on demand up to maximum size.
+     * 
+     * @param delegate asynchronous channel to operate upon
+     * @param initialSize initial push back buffer size
+     * @param maxSize maximum push back buffer size
+     * @param direct whether push back buffer should be direct <code>ByteBuffer</code>
+     */
+    public PushbackAsynchronousByteChannel( final AsynchronousByteChannel delegate, final int initialSize, final int maxSize, final boolean direct ) {
+        this( delegate, initialSize, maxSize, direct ? CachingByteBufferPool.getDirectInstance() : CachingByteBufferPool.getHeapInstance() );
+    }
+
+    /**
+     * Creates a <code>PushbackAsynchronousByteChannel</code> that wraps passed
+     * asynchronous channel. The push back buffer starts with initial size
+     * and grows on demand up to maximum size. Push back buffers are
+     * taken from passed pool and returned to it when no longer used.
+     * 
+     * @param delegate asynchronous channel to operate upon
+     * @param initialSize initial push back buffer size
+     * @param maxSize maximum push back buffer size
+     * @param pool push back buffers pool
+     */
+    public PushbackAsynchronousByteChannel( final AsynchronousByteChannel delegate, final int initialSize, final int maxSize, final ByteBufferPool pool ) {
+        // ensure preconditions
+        super( delegate );
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        if ( initialSize <= 0 ) {
+            throw new IllegalArgumentException( "Push back buffer size must be positive" );
+        }
+        if ( maxSize < initialSize ) {
+            throw new IllegalArgumentException( "Maximum push back buffer size must not be less than initial size" );
+        }
+        // initialize
+        pushBuffer = new PushbackBuffer( initialSize, maxSize, pool );
+    }
+
+    /**
+     * Creates a <code>PushbackAsynchronousByteChannel</code> that wraps passed
+     * asynchronous channel and stores pushed back bytes in passed buffer.
+     * Whole buffer capacity is used and its content is overwritten.
+     * The push back buffer has fixed length.
+     * 
+     * @param delegate asynchronous channel to operate upon
+     * @param buffer push back buffer
+     */
+    public PushbackAsynchronousByteChannel( final AsynchronousByteChannel delegate, final ByteBuffer buffer ) {
+        // ensure preconditions
+        super( delegate );
+        if ( buffer == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        if ( buffer.capacity() == 0 ) {
+            throw new IllegalArgumentException( "Push back buffer size must be positive" );
+        }
+        if ( buffer.isReadOnly() ) {
+            throw new IllegalArgumentException( "Push back buffer cannot be read-only" );
+        }
+        // initialize
+        pushBuffer = new PushbackBuffer( buffer );
+    }
+
+    /**
+     * Push back one byte so it is visible to next read attempts.
+     *
+     * @param b byte to be pushed back
+     * @throws IOException if some I/O error occurs
+     */
+    public void unread( final int b ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        pushBuffer.unread( ( byte ) b );
+    }
+
+    /**
+     * Push back all bytes from the buffer so these are visible to next read attempts.
+     *
+     * @param buffer bytes to be pushed back
+     * @throws IOException if some I/O error occurs
+     */
+    public void unread( final byte[] buffer ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( buffer == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        unread( buffer, 0, buffer.length );
+    }
+
+    /**
+     * Push back all bytes from the buffer so these are visible to next read attempts.
+     *
+     * @param buffer bytes to be pushed back
+     * @throws IOException if some I/O error occurs
+     */
+    public void unread( final ByteBuffer buffer ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( buffer == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        if ( !buffer.hasRemaining() ) {
+            return;
+        }
+        pushBuffer.unread( buffer );
+    }
+
+    /**
+     * Push back <B>length</B> bytes from this buffer starting from specified <B>offset</B> position
+     * so these are visible to next read attempts.
+     *
+     * @param buffer holding bytes to be pushed back
+     * @param offset to start copy from
+     * @param length count of bytes to process
+     * @throws IOException if some I/O error occurs
+     */
+    public void unread( final byte[] buffer, final int offset, final int length ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( buffer == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        if ( offset < 0 ) {
+            throw new IllegalArgumentException( "offset must be positive" );
+        }
+        if ( length < 0 ) {
+            throw new IllegalArgumentException( "length must be positive" );
+        }
+        if ( length > ( buffer.length - offset ) ) {
+            throw new IllegalArgumentException( "length must be less or equal to free space available in the buffer" );
+        }
+        // method implementation
+        if ( length == 0 ) {
+            return;
+        }
+        pushBuffer.unread( buffer, offset, length );
+    }
+
+    /**
+     * Completes with pushed back bytes if there are some, otherwise delegates the call to the wrapped channel.
+     */
+    @Override
+    public <A> void read( final ByteBuffer dst, final A attachment, final CompletionHandler<Integer, ? super A> handler ) {
+        // ensure preconditions
+        ensureOpen();
+        if ( dst == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        if ( handler == null ) {
+            throw new IllegalArgumentException( "handler cannot be null" );
+        }
+        // the implementation
+        if ( !pushBuffer.isEmpty() && dst.hasRemaining() ) {
+            complete( pushBuffer.drainTo( dst ), attachment, handler );
+        } else {
+            super.read( dst, attachment, handler );
+        }
+    }
+
+    /**
+     * Returns completed future if there are pushed back bytes, otherwise delegates the call to the wrapped channel.
+     */
+    @Override
+    public Future<Integer> read( final ByteBuffer dst ) {
+        // ensure preconditions
+        ensureOpen();
+        if ( dst == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        if ( !pushBuffer.isEmpty() && dst.hasRemaining() ) {
+            return CompletedFuture.completed( pushBuffer.drainTo( dst ) );
+        }
+        return super.read( dst );
+    }
+
+    /**
+     * Releases the push back buffer and closes the wrapped channel.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            pushBuffer.release();
+            super.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+
+    private static <A> void complete( final int count, final A attachment, final CompletionHandler<Integer, ? super A> handler ) {
+        final int[] depth = INVOKE_DIRECT_DEPTH.get();
+        if ( depth[ 0 ] < MAX_INVOKE_DIRECT_DEPTH ) {
+            depth[ 0 ]++;
+            try {
+                handler.completed( count, attachment );
+            } finally {
+                depth[ 0 ]--;
+            }
+        } else {
+            ForkJoinPool.commonPool().execute( () -> handler.completed( count, attachment ) );
+        }
+    }
+
+}
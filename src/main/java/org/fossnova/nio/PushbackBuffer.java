@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * <p>
+ * Push back bytes storage organized as a ring. Bytes are pushed back at the head
+ * of the ring and they are also consumed from its head, so neither push backs nor
+ * reads ever move the stored bytes. The storage starts with its initial size and
+ * is doubled on demand until maximum size is reached.
+ * </p>
+ * <p>
+ * Bytes are stored in either heap or direct <code>ByteBuffer</code> taken from
+ * a {@link ByteBufferPool} or supplied by the caller, and all
+ * transfers from and to <code>ByteBuffer</code>s are bulk buffer to buffer copies.
+ * Stored bytes can be exposed as read-only <code>ByteBuffer</code> view without copying.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+final class PushbackBuffer {
+
+    private final int maxSize;
+
+    private final ByteBufferPool pool;
+
+    private ByteBuffer data;
+
+    private ByteBuffer view;
+
+    private int head;
+
+    private int count;
+
+    /**
+     * Creates push back storage.
+     *
+     * @param initialSize initial storage size
+     * @param maxSize maximum storage size
+     * @param pool to take storage buffers from
+     */
+    PushbackBuffer( final int initialSize, final int maxSize, final ByteBufferPool pool ) {
+        this.maxSize = maxSize;
+        this.pool = pool;
+        data = pool.allocate( initialSize );
+    }
+
+    /**
+     * Creates push back storage using whole capacity of passed buffer.
+     * Such storage never grows.
+     *
+     * @param buffer to store bytes in
+     */
+    PushbackBuffer( final ByteBuffer buffer ) {
+        maxSize = buffer.capacity();
+        pool = null;
+        data = buffer;
+        data.clear();
+    }
+
+    /**
+     * Returns count of stored bytes.
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Returns maximum count of stored bytes.
+     */
+    int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns true if there are no stored bytes.
+     */
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Stores one byte in front of all stored bytes.
+     *
+     * @param b byte to be stored
+     * @throws IOException if maximum size would be exceeded
+     */
+    void unread( final byte b ) throws IOException {
+        ensureCapacity( 1 );
+        head = head == 0 ? data.capacity() - 1 : head - 1;
+        data.limit( data.capacity() );
+        data.put( head, b );
+        count++;
+    }
+
+    /**
+     * Stores bytes in front of all stored bytes.
+     *
+     * @param buffer holding bytes to be stored
+     * @param offset to start copy from
+     * @param length count of bytes to process
+     * @throws IOException if maximum size would be exceeded
+     */
+    void unread( final byte[] buffer, final int offset, final int length ) throws IOException {
+        ensureCapacity( length );
+        final int newHead = headFor( length );
+        final int first = Math.min( length, data.capacity() - newHead );
+        data.limit( data.capacity() );
+        data.position( newHead );
+        data.put( buffer, offset, first );
+        data.position( 0 );
+        data.put( buffer, offset + first, length - first );
+        head = newHead;
+        count += length;
+    }
+
+    /**
+     * Stores remaining bytes of the buffer in front of all stored bytes.
+     *
+     * @param buffer holding bytes to be stored
+     * @throws IOException if maximum size would be exceeded
+     */
+    void unread( final ByteBuffer buffer ) throws IOException {
+        final int length = buffer.remaining();
+        ensureCapacity( length );
+        final int newHead = headFor( length );
+        final int first = Math.min( length, data.capacity() - newHead );
+        final int limit = buffer.limit();
+        buffer.limit( buffer.position() + first );
+        data.limit( data.capacity() );
+        data.position( newHead );
+        data.put( buffer );
+        buffer.limit( limit );
+        data.position( 0 );
+        data.put( buffer );
+        head = newHead;
+        count += length;
+    }
+
+    /**
+     * Moves as many stored bytes as possible to the buffer.
+     *
+     * @param buffer to fill
+     * @return count of moved bytes
+     */
+    int drainTo( final ByteBuffer buffer ) {
+        final int length = Math.min( count, buffer.remaining() );
+        final int first = Math.min( length, data.capacity() - head );
+        data.limit( head + first );
+        data.position( head );
+        buffer.put( data );
+        data.limit( length - first );
+        data.position( 0 );
+        buffer.put( data );
+        head = ( head + length ) % data.capacity();
+        count -= length;
+        return length;
+    }
+
+    /**
+     * Appends bytes read from the channel after all stored bytes
+     * until there are at least <B>length</B> stored bytes or the channel
+     * cannot provide more bytes.
+     *
+     * @param channel to read from
+     * @param length requested count of stored bytes, must not exceed maximum size
+     * @return the value returned by last channel read
+     * @throws IOException if some I/O error occurs
+     */
+    int fill( final ReadableByteChannel channel, final int length ) throws IOException {
+        if ( head + length > data.capacity() ) {
+            // requested bytes must be contiguous
+            if ( length > data.capacity() ) {
+                grow( length, false );
+            } else {
+                moveToStart();
+            }
+        }
+        data.limit( head + length );
+        data.position( head + count );
+        int read = 0;
+        while ( data.hasRemaining() ) {
+            read = channel.read( data );
+            if ( read <= 0 ) {
+                break;
+            }
+            count += read;
+        }
+        return read;
+    }
+
+    /**
+     * Returns read-only view of up to <B>length</B> stored bytes.
+     * The view is valid until next modification of this storage.
+     *
+     * @param length requested count of bytes
+     * @return read-only view of stored bytes
+     */
+    ByteBuffer view( final int length ) {
+        if ( head + Math.min( length, count ) > data.capacity() ) {
+            moveToStart();
+        }
+        if ( view == null ) {
+            view = data.asReadOnlyBuffer();
+        }
+        view.limit( head + Math.min( length, count ) );
+        view.position( head );
+        return view;
+    }
+
+    /**
+     * Returns storage buffer to the pool it was taken from.
+     * The storage must not be used after this call.
+     */
+    void release() {
+        if ( pool != null && data != null ) {
+            pool.free( data );
+        }
+        data = null;
+        view = null;
+    }
+
+    private int headFor( final int length ) {
+        final int newHead = head - length;
+        return newHead < 0 ? newHead + data.capacity() : newHead;
+    }
+
+    private void ensureCapacity( final int length ) throws IOException {
+        // pooled storage may be larger than requested, maximum size is the limit
+        if ( length <= Math.min( data.capacity(), maxSize ) - count ) {
+            return;
+        }
+        if ( length > maxSize - count ) {
+            throw new IOException( "Push back buffer is full" );
+        }
+        // keep stored bytes at the end so following push backs do not wrap
+        grow( count + length, true );
+    }
+
+    private void grow( final int required, final boolean atEnd ) {
+        final int capacity = data.capacity();
+        final int doubled = capacity > maxSize / 2 ? maxSize : capacity * 2;
+        final ByteBuffer newData = pool.allocate( Math.max( required, doubled ) );
+        final int size = count;
+        final int newHead = atEnd ? newData.capacity() - size : 0;
+        newData.position( newHead );
+        drainTo( newData );
+        pool.free( data );
+        data = newData;
+        view = null;
+        head = newHead == newData.capacity() ? 0 : newHead;
+        count = size;
+    }
+
+    private void moveToStart() {
+        if ( head + count <= data.capacity() ) {
+            data.limit( head + count );
+            data.position( head );
+            data.compact();
+        } else {
+            // rotate the ring in place
+            reverse( 0, head );
+            reverse( head, data.capacity() );
+            reverse( 0, data.capacity() );
+        }
+        head = 0;
+    }
+
+    private void reverse( final int from, final int to ) {
+        data.limit( data.capacity() );
+        for ( int i = from, j = to - 1; i < j; i++, j-- ) {
+            final byte b = data.get( i );
+            data.put( i, data.get( j ) );
+            data.put( j, b );
+        }
+    }
+}
@@ -32,8 +32,18 @@ import java.nio.channels.ByteChannel;
  * call is delegated to wrapped channel.
  * </P>
  * <P>
- * The push back buffer has fixed length. Any attempt to push back more bytes
- * than buffer length will cause <B>java.io.IOException</B>.
+ * The push back buffer has either fixed length or it starts small and grows
+ * on demand up to its maximum length. Any attempt to push back more bytes
+ * than maximum buffer length will cause <B>java.io.IOException</B>.
+ * </P>
+ * <P>
+ * The push back buffer is stored either in heap or in direct <code>ByteBuffer</code>.
+ * Direct storage avoids heap to native copies when the channel is read into
+ * direct buffers. Push back buffers are taken from a {@link ByteBufferPool}
+ * and returned to it when this channel is closed.
+ * </P>
+ * <P>
+ * Bytes can be inspected ahead without consuming them via {@link #peek(int)} method.
  * </P>
  * <p>
  * This class is not thread safe.
@@ -64,10 +74,71 @@ public final class PushbackByteChannel extends DelegatingByteChannel implements
      * @param size fixed push back buffer size
      */
     public PushbackByteChannel( final ByteChannel delegate, final int size ) {
+        this( delegate, size, size );
+    }
+
+    /**
+     * Creates a <code>PushBackByteChannel</code> that wraps passed channel.
+     * The push back buffer starts with initial size and grows on demand
+     * up to maximum size.
+     * 
+     * @param delegate channel to operate upon
+     * @param initialSize initial push back buffer size
+     * @param maxSize maximum push back buffer size
+     */
+    public PushbackByteChannel( final ByteChannel delegate, final int initialSize, final int maxSize ) {
+        this( delegate, initialSize, maxSize, false );
+    }
+
+    /**
+     * Creates a <code>PushBackByteChannel</code> that wraps passed channel.
+     * The push back buffer starts with initial size and grows on demand
+     * up to maximum size.
+     * 
+     * @param delegate channel to operate upon
+     * @param initialSize initial push back buffer size
+     * @param maxSize maximum push back buffer size
+     * @param direct whether push back buffer should be direct <code>ByteBuffer</code>
+     */
+    public PushbackByteChannel( final ByteChannel delegate, final int initialSize, final int maxSize, final boolean direct ) {
         // ensure preconditions
         super( delegate );
         // initialize
-        readDelegate = new PushbackReadableByteChannel( delegate, size );
+        readDelegate = new PushbackReadableByteChannel( delegate, initialSize, maxSize, direct );
+    }
+
+    /**
+     * Creates a <code>PushBackByteChannel</code> that wraps passed channel.
+     * The push back buffer starts with initial size and grows on demand
+     * up to maximum size. Push back buffers are taken from passed pool
+     * and returned to it when no longer used.
+     * 
+     * @param delegate channel to operate upon
+     * @param initialSize initial push back buffer size
+     * @param maxSize maximum push back buffer size
+     * @param pool push back buffers pool
+     */
+    public PushbackByteChannel( final ByteChannel delegate, final int initialSize, final int maxSize, final ByteBufferPool pool ) {
+        // ensure preconditions
+        super( delegate );
+        // initialize
+        readDelegate = new PushbackReadableByteChannel( delegate, initialSize, maxSize, pool );
+    }
+
+    /**
+     * Creates a <code>PushBackByteChannel</code> that wraps passed channel
+     * and stores pushed back bytes in passed buffer.
+     * Whole buffer capacity is used and its content is overwritten.
+     * The push back buffer has fixed length.
+     * 
+     * @param delegate channel to operate upon
+     * @param buffer push back buffer
+     */
+    public PushbackByteChannel( final ByteChannel delegate, final ByteBuffer buffer ) {
+        // ensure preconditions
+        super( delegate );
+        // initialize
+        readDelegate = new PushbackReadableByteChannel( delegate, buffer );
     }
 
     /**
@@ -125,6 +196,24 @@ public final class PushbackByteChannel extends DelegatingByteChannel implements
         readDelegate.unread( buffer, offset, length );
     }
 
+    /**
+     * Returns read-only view of next <B>length</B> bytes without consuming them.
+     * Missing bytes are read from wrapped channel into the push back buffer.
+     * Returned view contains less bytes if wrapped channel reached EOF
+     * or if it is in non-blocking mode and has no more bytes available.
+     * Returned view is valid until next operation on this channel.
+     *
+     * @param length count of bytes to look ahead, must not exceed maximum push back buffer size
+     * @return read-only view of next bytes
+     * @throws IOException if some I/O error occurs
+     */
+    public ByteBuffer peek( final int length ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        return readDelegate.peek( length );
+    }
+
     /**
      * Delegates the call to the wrapped channel.
      */
@@ -148,13 +237,13 @@ public final class PushbackByteChannel extends DelegatingByteChannel implements
     }
 
     /**
-     * {@inheritDoc}
+     * Releases the push back buffer and closes the wrapped channel.
      */
     @Override
     public void close() throws IOException {
         if ( !closed ) {
             closed = true;
-            super.close();
+            readDelegate.close();
         }
     }
 
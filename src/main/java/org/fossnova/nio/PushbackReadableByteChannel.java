@@ -32,8 +32,18 @@ import java.nio.channels.ReadableByteChannel;
  * call is delegated to wrapped channel.
  * </P>
  * <P>
- * The push back buffer has fixed length. Any attempt to push back more bytes
- * than buffer length will cause <B>java.io.IOException</B>.
+ * The push back buffer has either fixed length or it starts small and grows
+ * on demand up to its maximum length. Any attempt to push back more bytes
+ * than maximum buffer length will cause <B>java.io.IOException</B>.
+ * </P>
+ * <P>
+ * The push back buffer is stored either in heap or in direct <code>ByteBuffer</code>.
+ * Direct storage avoids heap to native copies when the channel is read into
+ * direct buffers. Push back buffers are taken from a {@link ByteBufferPool}
+ * and returned to it when this channel is closed.
+ * </P>
+ * <P>
+ * Bytes can be inspected ahead without consuming them via {@link #peek(int)} method.
  * </P>
  * <p>
  * This class is not thread safe.
@@ -43,9 +53,7 @@ import java.nio.channels.ReadableByteChannel;
  */
 public final class PushbackReadableByteChannel extends DelegatingReadableByteChannel {
 
-    private final byte[] pushBuffer;
-
-    private int pushPosition;
+    private final PushbackBuffer pushBuffer;
 
     private boolean closed;
 
@@ -67,14 +75,86 @@ public final class PushbackReadableByteChannel extends DelegatingReadableByteCha
      * @param size fixed push back buffer size
      */
     public PushbackReadableByteChannel( final ReadableByteChannel delegate, final int size ) {
+        this( delegate, size, size );
+    }
+
+    /**
+     * Creates a <code>PushBackReadableByteChannel</code> that wraps passed
+     * readable channel. The push back buffer starts with initial size
+     * and grows on demand up to maximum size.
+     * 
+     * @param delegate readable channel to operate upon
+     * @param initialSize initial push back buffer size
+     * @param maxSize maximum push back buffer size
+     */
+    public PushbackReadableByteChannel( final ReadableByteChannel delegate, final int initialSize, final int maxSize ) {
+        this( delegate, initialSize, maxSize, false );
+    }
+
+    /**
+     * Creates a <code>PushBackReadableByteChannel</code> that wraps passed
+     * readable channel. The push back buffer starts with initial size
+     * and grows on demand up to maximum size.
+     * 
+     * @param delegate readable channel to operate upon
+     * @param initialSize initial push back buffer size
+     * @param maxSize maximum push back buffer size
+     * @param direct whether push back buffer should be direct <code>ByteBuffer</code>
+     */
+    public PushbackReadableByteChannel( final ReadableByteChannel delegate, final int initialSize, final int maxSize, final boolean direct ) {
+        this( delegate, initialSize, maxSize, direct ? CachingByteBufferPool.getDirectInstance() : CachingByteBufferPool.getHeapInstance() );
+    }
+
+    /**
+     * Creates a <code>PushBackReadableByteChannel</code> that wraps passed
+     * readable channel. The push back buffer starts with initial size
+     * and grows on demand up to maximum size. Push back buffers are
+     * taken from passed pool and returned to it when no longer used.
+     * 
+     * @param delegate readable channel to operate upon
+     * @param initialSize initial push back buffer size
+     * @param maxSize maximum push back buffer size
+     * @param pool push back buffers pool
+     */
+    public PushbackReadableByteChannel( final ReadableByteChannel delegate, final int initialSize, final int maxSize, final ByteBufferPool pool ) {
+        // ensure preconditions
+        super( delegate );
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        if ( initialSize <= 0 ) {
+            throw new IllegalArgumentException( "Push back buffer size must be positive" );
+        }
+        if ( maxSize < initialSize ) {
+            throw new IllegalArgumentException( "Maximum push back buffer size must not be less than initial size" );
+        }
+        // initialize
+        pushBuffer = new PushbackBuffer( initialSize, maxSize, pool );
+    }
+
+    /**
+     * Creates a <code>PushBackReadableByteChannel</code> that wraps passed
+     * readable channel and stores pushed back bytes in passed buffer.
+     * Whole buffer capacity is used and its content is overwritten.
+     * The push back buffer has fixed length.
+     * 
+     * @param delegate readable channel to operate upon
+     * @param buffer push back buffer
+     */
+    public PushbackReadableByteChannel( final ReadableByteChannel delegate, final ByteBuffer buffer ) {
         // ensure preconditions
         super( delegate );
-        if ( size <= 0 ) {
+        if ( buffer == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        if ( buffer.capacity() == 0 ) {
             throw new IllegalArgumentException( "Push back buffer size must be positive" );
         }
+        if ( buffer.isReadOnly() ) {
+            throw new IllegalArgumentException( "Push back buffer cannot be read-only" );
+        }
         // initialize
-        pushBuffer = new byte[ size ];
-        pushPosition = pushBuffer.length;
+        pushBuffer = new PushbackBuffer( buffer );
     }
 
     /**
@@ -86,11 +166,8 @@ public final class PushbackReadableByteChannel extends DelegatingReadableByteCha
     public void unread( final int b ) throws IOException {
         // ensure preconditions
         ensureOpen();
-        if ( pushPosition == 0 ) {
-            throw new IOException( "Push back buffer is full" );
-        }
         // the implementation
-        pushBuffer[ --pushPosition ] = ( byte ) b;
+        pushBuffer.unread( ( byte ) b );
     }
 
     /**
@@ -122,15 +199,10 @@ public final class PushbackReadableByteChannel extends DelegatingReadableByteCha
             throw new IllegalArgumentException( "buffer cannot be null" );
         }
         // the implementation
-        final int length = buffer.limit();
-        if ( length == 0 ) {
+        if ( !buffer.hasRemaining() ) {
             return;
         }
-        if ( length > pushPosition ) {
-            throw new IOException( "Push back buffer is full" );
-        }
-        pushPosition -= length;
-        buffer.get( pushBuffer, pushPosition, length );
+        pushBuffer.unread( buffer );
     }
 
     /**
@@ -161,11 +233,34 @@ public final class PushbackReadableByteChannel extends DelegatingReadableByteCha
         if ( length == 0 ) {
             return;
         }
-        if ( length > pushPosition ) {
-            throw new IOException( "Push back buffer is full" );
+        pushBuffer.unread( buffer, offset, length );
+    }
+
+    /**
+     * Returns read-only view of next <B>length</B> bytes without consuming them.
+     * Missing bytes are read from wrapped channel into the push back buffer.
+     * Returned view contains less bytes if wrapped channel reached EOF
+     * or if it is in non-blocking mode and has no more bytes available.
+     * Returned view is valid until next operation on this channel.
+     *
+     * @param length count of bytes to look ahead, must not exceed maximum push back buffer size
+     * @return read-only view of next bytes
+     * @throws IOException if some I/O error occurs
+     */
+    public ByteBuffer peek( final int length ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( length < 0 ) {
+            throw new IllegalArgumentException( "length must be positive" );
+        }
+        if ( length > pushBuffer.maxSize() ) {
+            throw new IllegalArgumentException( "length must not exceed maximum push back buffer size" );
         }
-        pushPosition -= length;
-        System.arraycopy( buffer, offset, pushBuffer, pushPosition, length );
+        // the implementation
+        if ( pushBuffer.size() < length ) {
+            pushBuffer.fill( getDelegate(), length );
+        }
+        return pushBuffer.view( length );
     }
 
     /**
@@ -179,19 +274,15 @@ public final class PushbackReadableByteChannel extends DelegatingReadableByteCha
             throw new IllegalArgumentException( "buffer cannot be null" );
         }
         // method implementation
-        if ( buffer.limit() == 0 ) {
+        if ( !buffer.hasRemaining() ) {
             return 0;
         }
         int returnValue = 0;
         // process pushBuffer first
-        if ( !isPushBackBufferEmpty() ) {
-            final int count = Math.min( buffer.limit(), getPushBackBufferSize() );
-            buffer.put( pushBuffer, pushPosition, count );
-            // update variables accordingly
-            pushPosition += count;
-            returnValue = count;
-        }
-        if ( buffer.limit() == 0 ) {
+        if ( !pushBuffer.isEmpty() ) {
+            returnValue = pushBuffer.drainTo( buffer );
+        }
+        if ( !buffer.hasRemaining() ) {
             // pushBuffer served method request completely
             return returnValue;
         }
@@ -205,12 +296,13 @@ public final class PushbackReadableByteChannel extends DelegatingReadableByteCha
     }
 
     /**
-     * {@inheritDoc}
+     * Releases the push back buffer and closes the wrapped channel.
      */
     @Override
     public void close() throws IOException {
         if ( !closed ) {
             closed = true;
+            pushBuffer.release();
             super.close();
         }
     }
@@ -228,12 +320,4 @@ public final class PushbackReadableByteChannel extends DelegatingReadableByteCha
             throw new IllegalStateException( "Channel is closed" );
         }
     }
-
-    private boolean isPushBackBufferEmpty() {
-        return pushPosition == pushBuffer.length;
-    }
-
-    private int getPushBackBufferSize() {
-        return pushBuffer.length - pushPosition;
-    }
 }
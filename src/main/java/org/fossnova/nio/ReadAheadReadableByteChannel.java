@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <P>
+ * A <code>ReadAheadReadableByteChannel</code> prefetches bytes from the wrapped channel in background,
+ * so I/O latency of slow channels overlaps with processing of already read bytes.
+ * A producer task executed by passed executor fills up to <B>depth</B> buffers ahead of the consumer.
+ * The producer never blocks waiting for free buffers, it stops when all buffers are filled
+ * and it is resubmitted once the consumer returns a buffer. Virtual thread executors are well suited.
+ * </P>
+ * <P>
+ * Reads return prefetched bytes and wait only if no prefetched bytes are available. Such waits
+ * are counted as stalls, see {@link #getStallCount()} and {@link #getStallTimeNanos()}.
+ * Buffers are taken from a {@link ByteBufferPool} and returned to it when this channel is closed.
+ * The wrapped channel is expected to be in blocking mode. It must not be used directly
+ * while wrapped by this channel.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class ReadAheadReadableByteChannel extends DelegatingReadableByteChannel {
+
+    static final int DEFAULT_DEPTH = 2;
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final ByteBuffer END = ByteBuffer.allocate( 0 );
+
+    private final Executor executor;
+
+    private final ByteBufferPool pool;
+
+    private final Queue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+
+    private final BlockingQueue<ByteBuffer> filled = new LinkedBlockingQueue<>();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Runnable producer = this::produce;
+
+    private ByteBuffer current;
+
+    private volatile IOException failure;
+
+    private volatile long stallCount;
+
+    private volatile long stallTimeNanos;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a <code>ReadAheadReadableByteChannel</code> prefetching two buffers of default size.
+     *
+     * @param delegate readable channel to operate upon
+     * @param executor executor running the prefetching task
+     */
+    public ReadAheadReadableByteChannel( final ReadableByteChannel delegate, final Executor executor ) {
+        this( delegate, executor, DEFAULT_DEPTH, DEFAULT_BUFFER_SIZE, CachingByteBufferPool.getDirectInstance() );
+    }
+
+    /**
+     * Creates a <code>ReadAheadReadableByteChannel</code>. Prefetching starts immediately.
+     *
+     * @param delegate readable channel to operate upon
+     * @param executor executor running the prefetching task
+     * @param depth count of buffers to prefetch
+     * @param bufferSize minimum buffer size
+     * @param pool buffers pool
+     */
+    public ReadAheadReadableByteChannel( final ReadableByteChannel delegate, final Executor executor, final int depth,
+            final int bufferSize, final ByteBufferPool pool ) {
+        // ensure preconditions
+        super( delegate );
+        if ( executor == null ) {
+            throw new IllegalArgumentException( "executor cannot be null" );
+        }
+        if ( depth <= 0 ) {
+            throw new IllegalArgumentException( "Depth must be positive" );
+        }
+        if ( bufferSize <= 0 ) {
+            throw new IllegalArgumentException( "Buffer size must be positive" );
+        }
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        // initialize
+        this.executor = executor;
+        this.pool = pool;
+        for ( int i = 0; i < depth; i++ ) {
+            free.add( pool.allocate( bufferSize ) );
+        }
+        schedule();
+    }
+
+    /**
+     * Returns count of reads that had to wait for the wrapped channel.
+     */
+    public long getStallCount() {
+        return stallCount;
+    }
+
+    /**
+     * Returns total time reads spent waiting for the wrapped channel in nanoseconds.
+     */
+    public long getStallTimeNanos() {
+        return stallTimeNanos;
+    }
+
+    /**
+     * Returns prefetched bytes. Waits only if there are no prefetched bytes available.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( dst == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        int total = 0;
+        while ( dst.hasRemaining() ) {
+            if ( current == null || ( current != END && !current.hasRemaining() ) ) {
+                recycle();
+                current = filled.poll();
+                if ( current == null ) {
+                    if ( total > 0 ) {
+                        return total;
+                    }
+                    current = await();
+                }
+            }
+            if ( current == END ) {
+                if ( total > 0 ) {
+                    return total;
+                }
+                if ( failure != null ) {
+                    throw new IOException( "Read ahead failed", failure );
+                }
+                return -1;
+            }
+            total += BufferedReadableByteChannel.transfer( current, dst );
+        }
+        return total;
+    }
+
+    /**
+     * Returns buffers to the pool and closes the wrapped channel.
+     * Buffer being filled by the producer at the moment is returned by the producer.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( closed ) {
+            return;
+        }
+        closed = true;
+        if ( current != null && current != END ) {
+            pool.free( current );
+        }
+        current = null;
+        release( filled );
+        release( free );
+        super.close();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+
+    private ByteBuffer await() throws InterruptedIOException {
+        final long start = System.nanoTime();
+        try {
+            return filled.take();
+        } catch ( final InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException( "Interrupted while waiting for read ahead" );
+        } finally {
+            stallCount++;
+            stallTimeNanos += System.nanoTime() - start;
+        }
+    }
+
+    private void recycle() {
+        if ( current != null && current != END ) {
+            free.add( current );
+            current = null;
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        if ( running.compareAndSet( false, true ) ) {
+            executor.execute( producer );
+        }
+    }
+
+    private void produce() {
+        while ( true ) {
+            final ByteBuffer buffer = free.poll();
+            if ( buffer == null ) {
+                running.set( false );
+                // consumer may have returned a buffer after the poll
+                if ( free.isEmpty() || !running.compareAndSet( false, true ) ) {
+                    return;
+                }
+                continue;
+            }
+            if ( closed ) {
+                pool.free( buffer );
+                release( free );
+                return;
+            }
+            buffer.clear();
+            final int count;
+            try {
+                count = getDelegate().read( buffer );
+            } catch ( final IOException | RuntimeException e ) {
+                pool.free( buffer );
+                if ( !closed ) {
+                    failure = e instanceof IOException ? ( IOException ) e : new IOException( e );
+                    filled.add( END );
+                }
+                return;
+            }
+            if ( count < 0 ) {
+                pool.free( buffer );
+                filled.add( END );
+                return;
+            }
+            buffer.flip();
+            filled.add( buffer );
+            if ( closed ) {
+                // consumer closed this channel concurrently, buffers added after its cleanup are released here
+                release( filled );
+                return;
+            }
+        }
+    }
+
+    private void release( final Queue<ByteBuffer> buffers ) {
+        ByteBuffer buffer;
+        while ( ( buffer = buffers.poll() ) != null ) {
+            if ( buffer != END ) {
+                pool.free( buffer );
+            }
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <P>
+ * A <code>ReadableByteChannelPublisher</code> publishes content of a readable channel
+ * to a single <code>Flow.Subscriber</code>. The channel is read only when the subscriber requested more buffers,
+ * one read per requested buffer, so memory stays bounded regardless of subscriber speed.
+ * Reads and all subscriber signals are executed serially by passed executor.
+ * </P>
+ * <P>
+ * Buffers are taken from a {@link ByteBufferPool}. Published buffers belong to the subscriber,
+ * which may return them to the pool via {@link #release(ByteBuffer)} method or
+ * via {@link WritableByteChannelSubscriber} sharing the same pool.
+ * The channel is expected to be in blocking mode and it is closed when the publishing
+ * completes, fails or is cancelled. A subscriber throwing from <code>onNext</code> cancels its subscription.
+ * </P>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class ReadableByteChannelPublisher implements Flow.Publisher<ByteBuffer> {
+
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final ReadableByteChannel channel;
+
+    private final Executor executor;
+
+    private final int bufferSize;
+
+    private final ByteBufferPool pool;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Creates a <code>ReadableByteChannelPublisher</code> with default buffer size.
+     *
+     * @param channel channel to publish
+     * @param executor executor reading the channel and signalling the subscriber
+     */
+    public ReadableByteChannelPublisher( final ReadableByteChannel channel, final Executor executor ) {
+        this( channel, executor, DEFAULT_BUFFER_SIZE, CachingByteBufferPool.getDirectInstance() );
+    }
+
+    /**
+     * Creates a <code>ReadableByteChannelPublisher</code>.
+     *
+     * @param channel channel to publish
+     * @param executor executor reading the channel and signalling the subscriber
+     * @param bufferSize minimum size of published buffers
+     * @param pool buffers pool
+     */
+    public ReadableByteChannelPublisher( final ReadableByteChannel channel, final Executor executor, final int bufferSize,
+            final ByteBufferPool pool ) {
+        // ensure preconditions
+        if ( channel == null ) {
+            throw new IllegalArgumentException( "channel cannot be null" );
+        }
+        if ( executor == null ) {
+            throw new IllegalArgumentException( "executor cannot be null" );
+        }
+        if ( bufferSize <= 0 ) {
+            throw new IllegalArgumentException( "Buffer size must be positive" );
+        }
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        // initialize
+        this.channel = channel;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Subscribes passed subscriber. Only one subscriber is accepted,
+     * any other subscriber is signalled <code>IllegalStateException</code>.
+     */
+    @Override
+    public void subscribe( final Flow.Subscriber<? super ByteBuffer> subscriber ) {
+        // ensure preconditions
+        if ( subscriber == null ) {
+            throw new NullPointerException( "subscriber cannot be null" );
+        }
+        // the implementation
+        if ( !subscribed.compareAndSet( false, true ) ) {
+            subscriber.onSubscribe( CancelledSubscription.INSTANCE );
+            subscriber.onError( new IllegalStateException( "Channel publisher allows only one subscriber" ) );
+            return;
+        }
+        new ChannelSubscription( subscriber ).start();
+    }
+
+    /**
+     * Returns published buffer to the pool. The buffer must not be used after this call.
+     *
+     * @param buffer buffer received from this publisher
+     */
+    public void release( final ByteBuffer buffer ) {
+        // ensure preconditions
+        if ( buffer == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        pool.free( buffer );
+    }
+
+    private final class ChannelSubscription implements Flow.Subscription, Runnable {
+
+        private final AtomicLong demand = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger( 1 );
+
+        private Flow.Subscriber<? super ByteBuffer> subscriber;
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable invalidRequest;
+
+        private boolean done;
+
+        private ChannelSubscription( final Flow.Subscriber<? super ByteBuffer> subscriber ) {
+            this.subscriber = subscriber;
+        }
+
+        private void start() {
+            // signals requested from onSubscribe are delayed until it returns
+            subscriber.onSubscribe( this );
+            if ( wip.decrementAndGet() != 0 ) {
+                executor.execute( this );
+            }
+        }
+
+        @Override
+        public void request( final long n ) {
+            if ( n <= 0 ) {
+                invalidRequest = new IllegalArgumentException( "Requested count must be positive" );
+            } else {
+                long current;
+                long next;
+                do {
+                    current = demand.get();
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while ( !demand.compareAndSet( current, next ) );
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if ( wip.getAndIncrement() == 0 ) {
+                executor.execute( this );
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = wip.addAndGet( -missed );
+            } while ( missed != 0 );
+        }
+
+        private void drain() {
+            if ( done ) {
+                return;
+            }
+            if ( cancelled ) {
+                terminate( null );
+                return;
+            }
+            if ( invalidRequest != null ) {
+                terminate( invalidRequest );
+                return;
+            }
+            while ( demand.get() > 0 && !cancelled ) {
+                final ByteBuffer buffer = pool.allocate( bufferSize );
+                final int count;
+                try {
+                    count = channel.read( buffer );
+                } catch ( final IOException | RuntimeException e ) {
+                    pool.free( buffer );
+                    terminate( e );
+                    return;
+                }
+                if ( count < 0 ) {
+                    pool.free( buffer );
+                    terminate( null );
+                    return;
+                }
+                buffer.flip();
+                if ( demand.get() != Long.MAX_VALUE ) {
+                    demand.decrementAndGet();
+                }
+                try {
+                    subscriber.onNext( buffer );
+                } catch ( final RuntimeException e ) {
+                    // misbehaving subscriber, the subscription is considered cancelled
+                    cancelled = true;
+                    terminate( e );
+                    return;
+                }
+            }
+        }
+
+        private void terminate( final Throwable failure ) {
+            done = true;
+            final Flow.Subscriber<? super ByteBuffer> s = subscriber;
+            subscriber = null;
+            Throwable error = failure;
+            try {
+                channel.close();
+            } catch ( final IOException e ) {
+                if ( error == null ) {
+                    error = e;
+                }
+            }
+            if ( cancelled ) {
+                return;
+            }
+            if ( error != null ) {
+                s.onError( error );
+            } else {
+                s.onComplete();
+            }
+        }
+    }
+
+    private static final class CancelledSubscription implements Flow.Subscription {
+
+        private static final CancelledSubscription INSTANCE = new CancelledSubscription();
+
+        @Override
+        public void request( final long n ) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <P>
+ * A <code>SelectorReadinessService</code> allows threads to wait until a non-blocking channel becomes ready
+ * for reading or writing. A single daemon thread owns the selector, waiting threads are parked via
+ * <code>LockSupport</code>, so waiting neither spins nor holds monitors. This makes the service suitable
+ * for very many virtual threads.
+ * </P>
+ * <P>
+ * Channels of waiting threads closed by other threads are detected within one second.
+ * Selection keys are cancelled before the last waiting thread of a channel is released,
+ * so released threads may switch the channel back to blocking mode.
+ * </P>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class SelectorReadinessService implements Closeable {
+
+    private static final long SWEEP_INTERVAL_MILLIS = 1000;
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos( SWEEP_INTERVAL_MILLIS );
+
+    private final Selector selector;
+
+    private final Queue<Waiter> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+
+    private final Set<SelectionKey> waitingKeys = new LinkedHashSet<>();
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a <code>SelectorReadinessService</code> and starts its selector thread.
+     *
+     * @throws IOException if selector cannot be opened
+     */
+    public SelectorReadinessService() throws IOException {
+        selector = Selector.open();
+        final Thread thread = new Thread( this::run, "fossnova-nio-readiness" );
+        thread.setDaemon( true );
+        thread.start();
+    }
+
+    /**
+     * Returns shared service instance.
+     */
+    public static SelectorReadinessService getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Parks current thread until the channel is ready for at least one of passed operations,
+     * until the channel is closed or until this service is closed.
+     * Callers should retry the operation afterwards as the readiness may be spurious.
+     *
+     * @param channel non-blocking channel to wait for
+     * @param ops interest set, see <code>SelectionKey</code> operation bits
+     * @throws IOException if current thread was interrupted while waiting
+     */
+    public void await( final SelectableChannel channel, final int ops ) throws IOException {
+        // ensure preconditions
+        if ( channel == null ) {
+            throw new IllegalArgumentException( "channel cannot be null" );
+        }
+        if ( channel.isBlocking() ) {
+            throw new IllegalArgumentException( "channel must be in non-blocking mode" );
+        }
+        if ( ops == 0 || ( ops & ~channel.validOps() ) != 0 ) {
+            throw new IllegalArgumentException( "Invalid operations" );
+        }
+        if ( closed ) {
+            throw new IllegalStateException( "Service is closed" );
+        }
+        // the implementation
+        final Waiter waiter = new Waiter( Thread.currentThread(), channel, ops );
+        pending.add( waiter );
+        if ( wakeupPending.compareAndSet( false, true ) ) {
+            selector.wakeup();
+        }
+        if ( closed ) {
+            // service closed concurrently, caller observes it on next attempt
+            return;
+        }
+        while ( !waiter.ready ) {
+            LockSupport.park( this );
+            if ( Thread.interrupted() ) {
+                waiter.cancelled = true;
+                // let the selector thread drop the waiter and cancel the key promptly
+                pending.add( waiter );
+                selector.wakeup();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException( "Interrupted while waiting for channel readiness" );
+            }
+        }
+    }
+
+    /**
+     * Stops the selector thread and releases all waiting threads.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( !closed ) {
+            closed = true;
+            selector.close();
+        }
+    }
+
+    private void run() {
+        try {
+            long lastSweep = System.nanoTime();
+            while ( !closed ) {
+                selector.select( SWEEP_INTERVAL_MILLIS );
+                wakeupPending.set( false );
+                register();
+                dispatch();
+                if ( System.nanoTime() - lastSweep >= SWEEP_INTERVAL_NANOS ) {
+                    sweep();
+                    lastSweep = System.nanoTime();
+                }
+            }
+        } catch ( final IOException | ClosedSelectorException e ) {
+            // selector closed or broken, waiters are released below
+        } finally {
+            // also on unexpected failures, so later callers fail fast instead of waiting for a dead thread
+            closed = true;
+            releaseAll();
+        }
+    }
+
+    private void register() throws IOException {
+        Waiter waiter;
+        while ( ( waiter = pending.poll() ) != null ) {
+            if ( waiter.cancelled ) {
+                final SelectionKey key = waiter.channel.keyFor( selector );
+                if ( key != null && update( key, 0 ) ) {
+                    waitingKeys.remove( key );
+                }
+                continue;
+            }
+            try {
+                SelectionKey key = waiter.channel.keyFor( selector );
+                if ( key != null && !key.isValid() ) {
+                    // flush cancelled key before registering the channel again
+                    selector.selectNow();
+                    key = null;
+                }
+                if ( key == null ) {
+                    key = waiter.channel.register( selector, waiter.ops, new ArrayList<Waiter>() );
+                } else {
+                    key.interestOps( key.interestOps() | waiter.ops );
+                }
+                waiters( key ).add( waiter );
+                waitingKeys.add( key );
+            } catch ( final ClosedChannelException | RuntimeException e ) {
+                // e.g. channel switched to blocking mode, let the caller retry and observe the failure
+                waiter.release();
+            } catch ( final IOException e ) {
+                waiter.release();
+                throw e;
+            }
+        }
+    }
+
+    private void dispatch() {
+        final Iterator<SelectionKey> i = selector.selectedKeys().iterator();
+        while ( i.hasNext() ) {
+            final SelectionKey key = i.next();
+            i.remove();
+            if ( update( key, key.isValid() ? key.readyOps() : -1 ) ) {
+                waitingKeys.remove( key );
+            }
+        }
+    }
+
+    private void sweep() {
+        final Iterator<SelectionKey> i = waitingKeys.iterator();
+        while ( i.hasNext() ) {
+            final SelectionKey key = i.next();
+            if ( update( key, key.isValid() ? 0 : -1 ) ) {
+                i.remove();
+            }
+        }
+    }
+
+    /**
+     * Releases waiters interested in ready operations, drops cancelled waiters and updates interest set.
+     * The key is cancelled before waiters are released if no waiter remains.
+     *
+     * @return true if no waiter remains for the key
+     */
+    private boolean update( final SelectionKey key, final int readyOps ) {
+        final List<Waiter> waiters = waiters( key );
+        int interestOps = 0;
+        for ( final Waiter waiter : waiters ) {
+            if ( !waiter.cancelled && ( waiter.ops & readyOps ) == 0 ) {
+                interestOps |= waiter.ops;
+            }
+        }
+        if ( interestOps == 0 ) {
+            key.cancel();
+        } else if ( key.isValid() ) {
+            try {
+                key.interestOps( interestOps );
+            } catch ( final CancelledKeyException e ) {
+                // channel closed concurrently, waiters are released by next sweep
+            }
+        }
+        final Iterator<Waiter> i = waiters.iterator();
+        while ( i.hasNext() ) {
+            final Waiter waiter = i.next();
+            if ( waiter.cancelled ) {
+                i.remove();
+            } else if ( ( waiter.ops & readyOps ) != 0 ) {
+                i.remove();
+                waiter.release();
+            }
+        }
+        return waiters.isEmpty();
+    }
+
+    private void releaseAll() {
+        for ( final SelectionKey key : waitingKeys ) {
+            for ( final Waiter waiter : waiters( key ) ) {
+                waiter.release();
+            }
+        }
+        waitingKeys.clear();
+        Waiter waiter;
+        while ( ( waiter = pending.poll() ) != null ) {
+            waiter.release();
+        }
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private static List<Waiter> waiters( final SelectionKey key ) {
+        return ( List<Waiter> ) key.attachment();
+    }
+
+    private static final class Waiter {
+
+        private final Thread thread;
+
+        private final SelectableChannel channel;
+
+        private final int ops;
+
+        private volatile boolean ready;
+
+        private volatile boolean cancelled;
+
+        private Waiter( final Thread thread, final SelectableChannel channel, final int ops ) {
+            this.thread = thread;
+            this.channel = channel;
+            this.ops = ops;
+        }
+
+        private void release() {
+            ready = true;
+            LockSupport.unpark( thread );
+        }
+    }
+
+    private static final class Holder {
+
+        private static final SelectorReadinessService INSTANCE;
+
+        static {
+            try {
+                INSTANCE = new SelectorReadinessService();
+            } catch ( final IOException e ) {
+                throw new UncheckedIOException( e );
+            }
+        }
+
+        private Holder() {
+        }
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <P>
+ * A <code>TeeWritableByteChannel</code> writes bytes to the wrapped primary channel
+ * and mirrors every successfully written byte to additional branch channels.
+ * Branches receive <code>duplicate()</code> views of the source buffer, bytes are not copied
+ * unless a branch cannot accept them immediately.
+ * </P>
+ * <P>
+ * The count of bytes written to the primary channel is returned by {@link #write(ByteBuffer)} method.
+ * Slow branches are handled according to {@link Policy}. Partial writes are tracked
+ * per branch and can be queried via {@link #getWrittenBytes(int)}, {@link #getPendingBytes(int)}
+ * and {@link #getDroppedBytes(int)} methods.
+ * </P>
+ * <P>
+ * Whenever a branch accepting no bytes has to be written to again, the calling thread waits via
+ * {@link SelectorReadinessService} if the branch is a <code>SelectableChannel</code> in non-blocking mode.
+ * Any other branch accepting no bytes in such a case causes <B>java.io.IOException</B>.
+ * </P>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class TeeWritableByteChannel extends DelegatingWritableByteChannel implements Flushable {
+
+    /**
+     * Policy applied when a branch does not accept all bytes in a single write.
+     */
+    public enum Policy {
+        /**
+         * Repeat writes until the branch accepted all bytes, waiting for the branch to become writable.
+         */
+        BLOCK,
+        /**
+         * Keep unwritten bytes in bounded branch backlog and write them later.
+         * If the backlog is full, writes are repeated until there is enough room in it,
+         * waiting for the branch to become writable.
+         */
+        BUFFER,
+        /**
+         * Discard bytes the branch did not accept.
+         */
+        DROP
+    }
+
+    static final int DEFAULT_BACKLOG_SIZE = 64 * 1024;
+
+    private final Branch[] branches;
+
+    private final Policy policy;
+
+    private final int backlogSize;
+
+    private final ByteBufferPool pool;
+
+    private boolean closed;
+
+    /**
+     * Creates a <code>TeeWritableByteChannel</code> with {@link Policy#BLOCK} policy.
+     *
+     * @param delegate primary channel to operate upon
+     * @param branches channels receiving copy of written bytes
+     */
+    public TeeWritableByteChannel( final WritableByteChannel delegate, final WritableByteChannel... branches ) {
+        this( delegate, Policy.BLOCK, branches );
+    }
+
+    /**
+     * Creates a <code>TeeWritableByteChannel</code> with default backlog size.
+     *
+     * @param delegate primary channel to operate upon
+     * @param policy slow branches policy
+     * @param branches channels receiving copy of written bytes
+     */
+    public TeeWritableByteChannel( final WritableByteChannel delegate, final Policy policy, final WritableByteChannel... branches ) {
+        this( delegate, policy, DEFAULT_BACKLOG_SIZE, CachingByteBufferPool.getHeapInstance(), branches );
+    }
+
+    /**
+     * Creates a <code>TeeWritableByteChannel</code>.
+     *
+     * @param delegate primary channel to operate upon
+     * @param policy slow branches policy
+     * @param backlogSize minimum backlog size per branch, used with {@link Policy#BUFFER} policy only
+     * @param pool backlog buffers pool
+     * @param branches channels receiving copy of written bytes
+     */
+    public TeeWritableByteChannel( final WritableByteChannel delegate, final Policy policy, final int backlogSize,
+            final ByteBufferPool pool, final WritableByteChannel... branches ) {
+        // ensure preconditions
+        super( delegate );
+        if ( policy == null ) {
+            throw new IllegalArgumentException( "policy cannot be null" );
+        }
+        if ( backlogSize <= 0 ) {
+            throw new IllegalArgumentException( "Backlog size must be positive" );
+        }
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        if ( branches == null ) {
+            throw new IllegalArgumentException( "branches cannot be null" );
+        }
+        // initialize
+        this.policy = policy;
+        this.backlogSize = backlogSize;
+        this.pool = pool;
+        this.branches = new Branch[ branches.length ];
+        for ( int i = 0; i < branches.length; i++ ) {
+            if ( branches[ i ] == null ) {
+                throw new IllegalArgumentException( "branch cannot be null" );
+            }
+            this.branches[ i ] = new Branch( branches[ i ] );
+        }
+    }
+
+    /**
+     * Returns slow branches policy.
+     */
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns count of branches.
+     */
+    public int getBranchCount() {
+        return branches.length;
+    }
+
+    /**
+     * Returns count of bytes written to the branch.
+     *
+     * @param branch branch index
+     * @return count of bytes written to the branch
+     */
+    public long getWrittenBytes( final int branch ) {
+        return branch( branch ).written;
+    }
+
+    /**
+     * Returns count of bytes waiting in the branch backlog.
+     *
+     * @param branch branch index
+     * @return count of bytes waiting in the branch backlog
+     */
+    public int getPendingBytes( final int branch ) {
+        final ByteBuffer backlog = branch( branch ).backlog;
+        return backlog == null ? 0 : backlog.position();
+    }
+
+    /**
+     * Returns count of bytes discarded because the branch did not accept them.
+     *
+     * @param branch branch index
+     * @return count of bytes discarded
+     */
+    public long getDroppedBytes( final int branch ) {
+        return branch( branch ).dropped;
+    }
+
+    /**
+     * Writes bytes to the primary channel and mirrors written bytes to all branches.
+     */
+    @Override
+    public int write( final ByteBuffer src ) throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        if ( src == null ) {
+            throw new IllegalArgumentException( "buffer cannot be null" );
+        }
+        // the implementation
+        final int start = src.position();
+        final int count = super.write( src );
+        if ( count <= 0 ) {
+            return count;
+        }
+        for ( final Branch branch : branches ) {
+            final ByteBuffer view = src.duplicate();
+            view.limit( start + count );
+            view.position( start );
+            write( branch, view );
+        }
+        return count;
+    }
+
+    /**
+     * Writes all branch backlogs and flushes all flushable channels.
+     */
+    @Override
+    public void flush() throws IOException {
+        // ensure preconditions
+        ensureOpen();
+        // the implementation
+        for ( final Branch branch : branches ) {
+            drain( branch );
+            if ( branch.channel instanceof Flushable ) {
+                ( ( Flushable ) branch.channel ).flush();
+            }
+        }
+        if ( getDelegate() instanceof Flushable ) {
+            ( ( Flushable ) getDelegate() ).flush();
+        }
+    }
+
+    /**
+     * Writes all branch backlogs, releases them and closes all branches and the primary channel.
+     */
+    @Override
+    public void close() throws IOException {
+        if ( closed ) {
+            return;
+        }
+        closed = true;
+        IOException failure = null;
+        for ( final Branch branch : branches ) {
+            try {
+                try {
+                    drain( branch );
+                } finally {
+                    if ( branch.backlog != null ) {
+                        pool.free( branch.backlog );
+                        branch.backlog = null;
+                    }
+                    branch.channel.close();
+                }
+            } catch ( final IOException e ) {
+                failure = suppress( failure, e );
+            }
+        }
+        try {
+            super.close();
+        } catch ( final IOException e ) {
+            failure = suppress( failure, e );
+        }
+        if ( failure != null ) {
+            throw failure;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    void ensureOpen() {
+        if ( closed ) {
+            throw new IllegalStateException( "Channel is closed" );
+        }
+    }
+
+    private Branch branch( final int index ) {
+        if ( index < 0 || index >= branches.length ) {
+            throw new IllegalArgumentException( "Branch index out of range" );
+        }
+        return branches[ index ];
+    }
+
+    private void write( final Branch branch, final ByteBuffer view ) throws IOException {
+        if ( policy == Policy.BLOCK ) {
+            writeFully( branch, view );
+        } else if ( policy == Policy.DROP ) {
+            branch.written += branch.channel.write( view );
+            branch.dropped += view.remaining();
+        } else {
+            if ( branch.backlog != null && branch.backlog.position() > 0 ) {
+                flushBacklog( branch );
+            }
+            if ( branch.backlog == null || branch.backlog.position() == 0 ) {
+                branch.written += branch.channel.write( view );
+            }
+            if ( view.hasRemaining() ) {
+                if ( branch.backlog == null ) {
+                    branch.backlog = pool.allocate( backlogSize );
+                }
+                while ( branch.backlog.remaining() < view.remaining() ) {
+                    final int written;
+                    if ( branch.backlog.position() > 0 ) {
+                        written = flushBacklog( branch );
+                    } else {
+                        written = branch.channel.write( view );
+                        branch.written += written;
+                    }
+                    if ( written == 0 ) {
+                        ByteChannels.awaitWritable( ByteChannels.unwrap( branch.channel ) );
+                    }
+                }
+                branch.backlog.put( view );
+            }
+        }
+    }
+
+    private void drain( final Branch branch ) throws IOException {
+        if ( branch.backlog == null ) {
+            return;
+        }
+        while ( branch.backlog.position() > 0 ) {
+            if ( flushBacklog( branch ) == 0 ) {
+                ByteChannels.awaitWritable( ByteChannels.unwrap( branch.channel ) );
+            }
+        }
+    }
+
+    private int flushBacklog( final Branch branch ) throws IOException {
+        final ByteBuffer backlog = branch.backlog;
+        backlog.flip();
+        try {
+            final int count = branch.channel.write( backlog );
+            branch.written += count;
+            return count;
+        } finally {
+            backlog.compact();
+        }
+    }
+
+    private static void writeFully( final Branch branch, final ByteBuffer view ) throws IOException {
+        while ( view.hasRemaining() ) {
+            final int count = branch.channel.write( view );
+            branch.written += count;
+            if ( count == 0 ) {
+                ByteChannels.awaitWritable( ByteChannels.unwrap( branch.channel ) );
+            }
+        }
+    }
+
+    private static IOException suppress( final IOException failure, final IOException e ) {
+        if ( failure == null ) {
+            return e;
+        }
+        failure.addSuppressed( e );
+        return failure;
+    }
+
+    private static final class Branch {
+
+        private final WritableByteChannel channel;
+
+        private ByteBuffer backlog;
+
+        private long written;
+
+        private long dropped;
+
+        private Branch( final WritableByteChannel channel ) {
+            this.channel = channel;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * <p>
+ * A <code>ThrottledReadableByteChannel</code> limits rate of bytes read from the wrapped channel
+ * using a {@link TokenBucket}. Buckets can be shared by many channels to enforce aggregate rate.
+ * </p>
+ * <p>
+ * In blocking mode the channel waits for tokens before it calls the wrapped channel.
+ * In non-blocking mode the channel returns zero if there are no tokens available.
+ * Each call transfers at most as many bytes as the bucket burst size.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class ThrottledReadableByteChannel extends DelegatingReadableByteChannel {
+
+    private final TokenBucket bucket;
+
+    private final boolean blocking;
+
+    /**
+     * Creates a blocking <code>ThrottledReadableByteChannel</code> that wraps passed readable channel.
+     *
+     * @param delegate readable channel to operate upon
+     * @param bucket to take tokens from
+     */
+    public ThrottledReadableByteChannel( final ReadableByteChannel delegate, final TokenBucket bucket ) {
+        this( delegate, bucket, true );
+    }
+
+    /**
+     * Creates a <code>ThrottledReadableByteChannel</code> that wraps passed readable channel.
+     *
+     * @param delegate readable channel to operate upon
+     * @param bucket to take tokens from
+     * @param blocking whether to wait for tokens or to return zero if there are none
+     */
+    public ThrottledReadableByteChannel( final ReadableByteChannel delegate, final TokenBucket bucket, final boolean blocking ) {
+        // ensure preconditions
+        super( delegate );
+        if ( bucket == null ) {
+            throw new IllegalArgumentException( "Bucket cannot be null" );
+        }
+        // initialize
+        this.bucket = bucket;
+        this.blocking = blocking;
+    }
+
+    /**
+     * Returns bucket this channel takes tokens from.
+     */
+    public TokenBucket getBucket() {
+        return bucket;
+    }
+
+    /**
+     * Delegates the call to the wrapped channel once tokens are available.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        if ( !dst.hasRemaining() ) {
+            return getDelegate().read( dst );
+        }
+        final int requested = Math.min( dst.remaining(), bucket.getBurstSize() );
+        final int granted;
+        if ( blocking ) {
+            bucket.acquire( requested );
+            granted = requested;
+        } else {
+            granted = bucket.tryAcquire( requested );
+            if ( granted == 0 ) {
+                return 0;
+            }
+        }
+        final int limit = dst.limit();
+        int count = 0;
+        dst.limit( dst.position() + granted );
+        try {
+            count = getDelegate().read( dst );
+        } finally {
+            dst.limit( limit );
+            bucket.release( granted - Math.max( count, 0 ) );
+        }
+        return count;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+
+/**
+ * <p>
+ * A <code>TimedByteChannel</code> measures latency of every call of the wrapped channel
+ * and records it into a {@link LatencyHistogram}.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class TimedByteChannel extends DelegatingByteChannel {
+
+    private final LatencyHistogram readHistogram;
+
+    private final LatencyHistogram writeHistogram;
+
+    /**
+     * Creates a <code>TimedByteChannel</code> that wraps passed channel.
+     *
+     * @param delegate channel to operate upon
+     * @param readHistogram to record read latencies into
+     * @param writeHistogram to record write latencies into
+     */
+    public TimedByteChannel( final ByteChannel delegate, final LatencyHistogram readHistogram, final LatencyHistogram writeHistogram ) {
+        // ensure preconditions
+        super( delegate );
+        if ( readHistogram == null || writeHistogram == null ) {
+            throw new IllegalArgumentException( "Histogram cannot be null" );
+        }
+        // initialize
+        this.readHistogram = readHistogram;
+        this.writeHistogram = writeHistogram;
+    }
+
+    /**
+     * Delegates the call to the wrapped channel and records its latency.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        final long start = System.nanoTime();
+        try {
+            return getDelegate().read( dst );
+        } finally {
+            readHistogram.record( System.nanoTime() - start );
+        }
+    }
+
+    /**
+     * Delegates the call to the wrapped channel and records its latency.
+     */
+    @Override
+    public int write( final ByteBuffer src ) throws IOException {
+        final long start = System.nanoTime();
+        try {
+            return getDelegate().write( src );
+        } finally {
+            writeHistogram.record( System.nanoTime() - start );
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * <p>
+ * A <code>TimedReadableByteChannel</code> measures latency of every call of the wrapped channel
+ * and records it into a {@link LatencyHistogram}.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class TimedReadableByteChannel extends DelegatingReadableByteChannel {
+
+    private final LatencyHistogram readHistogram;
+
+    /**
+     * Creates a <code>TimedReadableByteChannel</code> that wraps passed readable channel.
+     *
+     * @param delegate readable channel to operate upon
+     * @param histogram to record latencies into
+     */
+    public TimedReadableByteChannel( final ReadableByteChannel delegate, final LatencyHistogram histogram ) {
+        // ensure preconditions
+        super( delegate );
+        if ( histogram == null ) {
+            throw new IllegalArgumentException( "Histogram cannot be null" );
+        }
+        // initialize
+        readHistogram = histogram;
+    }
+
+    /**
+     * Delegates the call to the wrapped channel and records its latency.
+     */
+    @Override
+    public int read( final ByteBuffer dst ) throws IOException {
+        final long start = System.nanoTime();
+        try {
+            return getDelegate().read( dst );
+        } finally {
+            readHistogram.record( System.nanoTime() - start );
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * A <code>TokenBucket</code> limits byte rate of throttled channels.
+ * Tokens are refilled at configured rate up to the configured burst size and each
+ * transferred byte consumes one token. A single bucket can be shared by many
+ * channels to enforce their aggregate rate.
+ * </p>
+ * <p>
+ * The bucket state is a single theoretical arrival time updated with compare and set,
+ * so no locks are involved. Taken tokens are charged in whole nanoseconds rounded up,
+ * so the configured rate is never exceeded. Very small grants at rates above one byte
+ * per nanosecond are therefore charged more than their exact cost.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos( 1 );
+
+    private final long rate;
+
+    private final int burstSize;
+
+    private final long burstNanos;
+
+    private final AtomicLong arrivalTime;
+
+    /**
+     * Creates full bucket allowing bursts of one second worth of bytes.
+     *
+     * @param bytesPerSecond rate limit
+     */
+    public TokenBucket( final long bytesPerSecond ) {
+        this( bytesPerSecond, ( int ) Math.min( bytesPerSecond, Integer.MAX_VALUE ) );
+    }
+
+    /**
+     * Creates full bucket.
+     *
+     * @param bytesPerSecond rate limit
+     * @param burstSize maximum count of tokens the bucket can hold
+     */
+    public TokenBucket( final long bytesPerSecond, final int burstSize ) {
+        // ensure preconditions
+        if ( bytesPerSecond <= 0 ) {
+            throw new IllegalArgumentException( "Rate must be positive" );
+        }
+        if ( burstSize <= 0 ) {
+            throw new IllegalArgumentException( "Burst size must be positive" );
+        }
+        // initialize
+        rate = bytesPerSecond;
+        this.burstSize = burstSize;
+        // a full bucket yields at least burst size tokens, tokens are capped to burst size
+        burstNanos = cost( burstSize );
+        arrivalTime = new AtomicLong( System.nanoTime() - burstNanos );
+    }
+
+    /**
+     * Returns rate limit in bytes per second.
+     */
+    public long getRate() {
+        return rate;
+    }
+
+    /**
+     * Returns maximum count of tokens the bucket can hold.
+     */
+    public int getBurstSize() {
+        return burstSize;
+    }
+
+    /**
+     * Takes up to <B>max</B> tokens without waiting.
+     *
+     * @param max maximum count of tokens to take
+     * @return count of taken tokens, possibly zero
+     */
+    public int tryAcquire( final int max ) {
+        while ( true ) {
+            final long now = System.nanoTime();
+            final long current = arrivalTime.get();
+            final long base = base( current, now );
+            final long available = tokens( now - base );
+            if ( available <= 0 || max <= 0 ) {
+                return 0;
+            }
+            final int granted = ( int ) Math.min( max, available );
+            if ( arrivalTime.compareAndSet( current, base + cost( granted ) ) ) {
+                return granted;
+            }
+        }
+    }
+
+    /**
+     * Takes <B>count</B> tokens, waiting until they are available.
+     *
+     * @param count count of tokens to take, must not exceed burst size
+     * @throws InterruptedIOException if current thread was interrupted while waiting
+     */
+    public void acquire( final int count ) throws InterruptedIOException {
+        // ensure preconditions
+        if ( count < 0 || count > burstSize ) {
+            throw new IllegalArgumentException( "count must be between zero and burst size" );
+        }
+        // the implementation
+        final long deadline = reserve( count );
+        long remaining = deadline - System.nanoTime();
+        while ( remaining > 0 ) {
+            LockSupport.parkNanos( this, remaining );
+            if ( Thread.interrupted() ) {
+                release( count );
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException( "Interrupted while waiting for tokens" );
+            }
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    /**
+     * Returns unused tokens to the bucket.
+     *
+     * @param count count of tokens to return
+     */
+    public void release( final int count ) {
+        if ( count <= 0 ) {
+            return;
+        }
+        // rounded down so the refund never exceeds the charge
+        final long refund = ( long ) count * NANOS_PER_SECOND / rate;
+        long current = arrivalTime.get();
+        while ( !arrivalTime.compareAndSet( current, current - refund ) ) {
+            current = arrivalTime.get();
+        }
+    }
+
+    private long reserve( final int count ) {
+        while ( true ) {
+            final long current = arrivalTime.get();
+            final long next = base( current, System.nanoTime() ) + cost( count );
+            if ( arrivalTime.compareAndSet( current, next ) ) {
+                return next;
+            }
+        }
+    }
+
+    private long base( final long current, final long now ) {
+        // bucket never holds more than burst size tokens
+        final long full = now - burstNanos;
+        return current - full > 0 ? current : full;
+    }
+
+    /**
+     * Returns cost of <B>count</B> tokens in nanoseconds rounded up. Cannot overflow as count is an int.
+     */
+    private long cost( final int count ) {
+        final long nanos = ( long ) count * NANOS_PER_SECOND;
+        return nanos / rate + ( nanos % rate == 0 ? 0 : 1 );
+    }
+
+    /**
+     * Returns count of tokens refilled in <B>elapsed</B> nanoseconds rounded down, at most burst size.
+     */
+    private long tokens( final long elapsed ) {
+        if ( elapsed <= 0 ) {
+            return 0;
+        }
+        if ( elapsed > Long.MAX_VALUE / rate ) {
+            // more than burst size tokens for sure
+            return burstSize;
+        }
+        return Math.min( elapsed * rate / NANOS_PER_SECOND, burstSize );
+    }
+}
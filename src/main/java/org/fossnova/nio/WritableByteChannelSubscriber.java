@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, FOSS Nova Software foundation (FNSF),
+ * and individual contributors as indicated by the @author tags.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.fossnova.nio;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * <P>
+ * A <code>WritableByteChannelSubscriber</code> writes buffers received from a <code>Flow.Publisher</code>
+ * to a writable channel. Buffers are requested one at a time, next buffer is requested only after
+ * the previous one was written completely, so memory stays bounded when the channel is slow.
+ * </P>
+ * <P>
+ * If a {@link ByteBufferPool} is passed, written buffers are returned to it, so buffers published
+ * by {@link ReadableByteChannelPublisher} sharing the same pool are recycled.
+ * The channel is expected to be in blocking mode. It is flushed if it is flushable and closed when
+ * the publisher completes or fails, or when writing fails. The outcome is available via {@link #getCompletion()}.
+ * </P>
+ * <p>
+ * This class is thread safe as far as <code>Flow.Subscriber</code> contract is honoured.
+ * </p>
+ *
+ * @author FOSS Nova contributors
+ */
+public final class WritableByteChannelSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+    private final WritableByteChannel channel;
+
+    private final ByteBufferPool pool;
+
+    private final CompletableFuture<Long> completion = new CompletableFuture<>();
+
+    private Flow.Subscription subscription;
+
+    private long written;
+
+    /**
+     * Creates a <code>WritableByteChannelSubscriber</code> not recycling written buffers.
+     *
+     * @param channel channel to write to
+     */
+    public WritableByteChannelSubscriber( final WritableByteChannel channel ) {
+        // ensure preconditions
+        if ( channel == null ) {
+            throw new IllegalArgumentException( "channel cannot be null" );
+        }
+        // initialize
+        this.channel = channel;
+        pool = null;
+    }
+
+    /**
+     * Creates a <code>WritableByteChannelSubscriber</code> returning written buffers to passed pool.
+     *
+     * @param channel channel to write to
+     * @param pool pool the received buffers were taken from
+     */
+    public WritableByteChannelSubscriber( final WritableByteChannel channel, final ByteBufferPool pool ) {
+        // ensure preconditions
+        if ( channel == null ) {
+            throw new IllegalArgumentException( "channel cannot be null" );
+        }
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "pool cannot be null" );
+        }
+        // initialize
+        this.channel = channel;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns stage completed with count of written bytes when the publisher completes,
+     * or completed exceptionally if publishing or writing fails.
+     */
+    public CompletionStage<Long> getCompletion() {
+        return completion.minimalCompletionStage();
+    }
+
+    /**
+     * Requests first buffer. Any subsequent subscription is cancelled.
+     */
+    @Override
+    public void onSubscribe( final Flow.Subscription s ) {
+        // ensure preconditions
+        if ( s == null ) {
+            throw new NullPointerException( "subscription cannot be null" );
+        }
+        // the implementation
+        if ( subscription != null ) {
+            s.cancel();
+            return;
+        }
+        subscription = s;
+        s.request( 1 );
+    }
+
+    /**
+     * Writes the buffer and requests next one.
+     */
+    @Override
+    public void onNext( final ByteBuffer buffer ) {
+        // ensure preconditions
+        if ( buffer == null ) {
+            throw new NullPointerException( "buffer cannot be null" );
+        }
+        // the implementation
+        if ( completion.isDone() ) {
+            if ( pool != null ) {
+                pool.free( buffer );
+            }
+            return;
+        }
+        try {
+            while ( buffer.hasRemaining() ) {
+                written += channel.write( buffer );
+            }
+        } catch ( final IOException | RuntimeException e ) {
+            subscription.cancel();
+            terminate( e );
+            return;
+        } finally {
+            if ( pool != null ) {
+                pool.free( buffer );
+            }
+        }
+        subscription.request( 1 );
+    }
+
+    /**
+     * Closes the channel and completes exceptionally.
+     */
+    @Override
+    public void onError( final Throwable failure ) {
+        // ensure preconditions
+        if ( failure == null ) {
+            throw new NullPointerException( "failure cannot be null" );
+        }
+        // the implementation
+        terminate( failure );
+    }
+
+    /**
+     * Flushes and closes the channel and completes with count of written bytes.
+     */
+    @Override
+    public void onComplete() {
+        try {
+            if ( channel instanceof Flushable ) {
+                ( ( Flushable ) channel ).flush();
+            }
+        } catch ( final IOException e ) {
+            terminate( e );
+            return;
+        }
+        terminate( null );
+    }
+
+    private void terminate( final Throwable failure ) {
+        if ( completion.isDone() ) {
+            return;
+        }
+        Throwable error = failure;
+        try {
+            channel.close();
+        } catch ( final IOException e ) {
+            if ( error == null ) {
+                error = e;
+            } else {
+                error.addSuppressed( e );
+            }
+        }
+        if ( error != null ) {
+            completion.completeExceptionally( error );
+        } else {
+            completion.complete( written );
+        }
+    }
+}